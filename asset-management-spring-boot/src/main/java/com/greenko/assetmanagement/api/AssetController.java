@@ -1,20 +1,41 @@
 package com.greenko.assetmanagement.api;
 
+import com.greenko.assetmanagement.dto.AssetChanges;
+import com.greenko.assetmanagement.dto.AssetPage;
 import com.greenko.assetmanagement.dto.AssetRequestDto;
 import com.greenko.assetmanagement.dto.AssetResponseDto;
-import com.greenko.assetmanagement.exception.AssetNotFoundException;
+import com.greenko.assetmanagement.dto.AssetSearchCriteria;
+import com.greenko.assetmanagement.dto.AssetSort;
+import com.greenko.assetmanagement.dto.AssetStatusUpdateDto;
+import com.greenko.assetmanagement.dto.BulkAssetResponse;
+import com.greenko.assetmanagement.event.AssetEventBroadcaster;
 import com.greenko.assetmanagement.model.Asset;
-import com.greenko.assetmanagement.repository.AssetRepository;
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+import com.greenko.assetmanagement.service.AssetChangeService;
+import com.greenko.assetmanagement.service.AssetService;
+import com.greenko.assetmanagement.util.AssetEntityDtoUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.time.Duration;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/assets")
@@ -22,80 +43,161 @@ import java.util.UUID;
 public class AssetController {
 
 
-    private AssetRepository assetRepo;
+    private AssetService assetService;
+
+    private AssetChangeService assetChangeService;
+
+    private AssetEventBroadcaster eventBroadcaster;
+
+    private ObjectWriter ndjsonWriter;
 
+    private ObjectReader ndjsonReader;
 
 
-    public AssetController(AssetRepository assetRepo) {
-        this.assetRepo = assetRepo;
+
+    public AssetController(AssetService assetService, AssetChangeService assetChangeService,
+                           AssetEventBroadcaster eventBroadcaster, ObjectMapper objectMapper) {
+        this.assetService = assetService;
+        this.assetChangeService = assetChangeService;
+        this.eventBroadcaster = eventBroadcaster;
+        this.ndjsonWriter = objectMapper.writer().withRootValueSeparator("\n");
+        this.ndjsonReader = objectMapper.readerFor(AssetRequestDto.class);
     }
 
     @GetMapping
-    public List<Asset> getAllAssets(){
-       return assetRepo.findAll();
+    public ResponseEntity<AssetPage<AssetResponseDto>> getAllAssets(@RequestParam(value = "after", required = false) String after,
+                                                                    @RequestParam(value = "size", defaultValue = "" + AssetService.DEFAULT_PAGE_SIZE) int size,
+                                                                    @RequestParam(value = "sort", defaultValue = "ASSET_ID") AssetSort sort,
+                                                                    WebRequest request){
+       // checked before any query: an unchanged collection costs no database work
+       String etag = assetService.collectionEtag();
+       if (request.checkNotModified(etag)) {
+           return null;
+       }
+       AssetPage<AssetResponseDto> page = sort != AssetSort.ASSET_ID
+               ? assetService.searchAssets(AssetSearchCriteria.none(), sort, after, size)
+               : assetService.getAssetPage(after, size);
+       return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(page);
+    }
+
+    // ids inserted, updated and deleted since the token; call without since to obtain a first token
+    @GetMapping("/changes")
+    public AssetChanges getChanges(@RequestParam(value = "since", required = false) String since){
+        return assetChangeService.getChanges(since);
+    }
+
+    // committed changes as they happen; a gap in the event ids means events were dropped, resync via /changes
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(){
+        return eventBroadcaster.subscribe();
+    }
+
+    // one JSON object per line, written as rows come off the database cursor
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamAllAssets(){
+        return out -> {
+            try (SequenceWriter writer = ndjsonWriter.writeValues(out)) {
+                assetService.forEachAsset(writer::write);
+            }
+        };
     }
 
     @PostMapping
     public ResponseEntity<AssetResponseDto> saveAsset(@RequestBody AssetRequestDto assetDto){
-        Asset asset = new Asset(
-                UUID.randomUUID().toString(),
-                assetDto.assetName(),
-                assetDto.status(),
-                assetDto.health(),
-                assetDto.installedDate(),
-                assetDto.location()
-        );
-        Asset saved = assetRepo.save(asset);
-        AssetResponseDto response = new AssetResponseDto(
-                saved.getAssetId(),
-                saved.getAssetName(),
-                saved.getStatus(),
-                saved.getHealth(),
-                saved.getInstalledDate(),
-                saved.getLocation(),
-                "Not Available"
-        );
+        Asset asset = AssetEntityDtoUtil.toEntity(assetDto);
+        Asset saved = assetService.saveAsset(asset);
+        AssetResponseDto response = AssetEntityDtoUtil.toResponse(saved);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
     }
 
-    @GetMapping("/search")
-    public List<Asset> findBy(@RequestParam(value = "name",required = false) String name,
-                              @RequestParam(value = "status", required = false) String status,
-                              @RequestParam(value = "year", required = false) Integer year){
-
-        if(name!=null && status!=null){
-            // search by both
-        }
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkAssetResponse> saveAssets(@RequestBody List<AssetRequestDto> assetDtos){
+        int created = assetService.saveAssets(assetDtos.iterator());
+        return ResponseEntity.status(HttpStatus.CREATED).body(new BulkAssetResponse(created));
+    }
 
-        else if(name!=null){
-            // search by name
-        }
-        else if(status!=null){
-            // search by status
+    // NDJSON is read one line at a time, so the request is never held in memory as a whole
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkAssetResponse> saveAssets(InputStream body){
+        try (MappingIterator<AssetRequestDto> assetDtos = ndjsonReader.readValues(body)) {
+            int created = assetService.saveAssets(assetDtos);
+            return ResponseEntity.status(HttpStatus.CREATED).body(new BulkAssetResponse(created));
         }
+    }
 
-        else if (year!=null){
-            return assetRepo.findByYear(year);
+    @GetMapping("/search")
+    public ResponseEntity<AssetPage<AssetResponseDto>> findBy(@RequestParam(value = "name",required = false) String name,
+                                              @RequestParam(value = "status", required = false) AssetStatus status,
+                                              @RequestParam(value = "health", required = false) AssetHealth health,
+                                              @RequestParam(value = "year", required = false) Integer year,
+                                              @RequestParam(value = "location", required = false) String location,
+                                              @RequestParam(value = "installedFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate installedFrom,
+                                              @RequestParam(value = "installedTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate installedTo,
+                                              @RequestParam(value = "minAge", required = false) Integer minAgeYears,
+                                              @RequestParam(value = "maxAge", required = false) Integer maxAgeYears,
+                                              @RequestParam(value = "sort", defaultValue = "ASSET_ID") AssetSort sort,
+                                              @RequestParam(value = "after", required = false) String after,
+                                              @RequestParam(value = "size", defaultValue = "" + AssetService.DEFAULT_PAGE_SIZE) int size,
+                                              WebRequest request){
+
+        String etag = assetService.collectionEtag();
+        if (request.checkNotModified(etag)) {
+            return null;
         }
-
-        return assetRepo.findAll();
+        var criteria = new AssetSearchCriteria(name, status, health, year, location, installedFrom, installedTo,
+                minAgeYears, maxAgeYears);
+        var page = assetService.searchAssets(criteria, sort, after, size);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(page);
 
     }
 
-    // update asset if it is present else throw an exception
+    // If-Match carries the version from the asset's ETag; the new ETag comes back on the 204
+    @PutMapping("/{id}")
+    public ResponseEntity<Void> updateAsset(@PathVariable String id,
+                                            @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
+                                            @RequestBody AssetRequestDto assetDto){
+        long version = assetService.updateAsset(id, parseVersion(ifMatch), assetDto);
+        return ResponseEntity.noContent().eTag(AssetResponseDto.etagOf(version)).build();
+    }
 
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<Void> updateStatus(@PathVariable String id,
+                                             @RequestHeader(HttpHeaders.IF_MATCH) String ifMatch,
+                                             @RequestBody AssetStatusUpdateDto statusDto){
+        long version = assetService.updateStatus(id, parseVersion(ifMatch), statusDto.status());
+        return ResponseEntity.noContent().eTag(AssetResponseDto.etagOf(version)).build();
+    }
 
+    // served from the asset cache; on a matching If-None-Match Spring answers 304 without serializing.
+    // The ETag is taken before age is refreshed, so a midnight in between only costs a revalidation
     @GetMapping("/{id}")
-    public Asset getAsset(@PathVariable String id){
-        return assetRepo.findById(id).orElseThrow(()->new AssetNotFoundException("Asset with ID:"+id+" Not found"));
+    public ResponseEntity<AssetResponseDto> getAsset(@PathVariable String id){
+        AssetResponseDto cached = assetService.getAsset(id);
+        String etag = AssetResponseDto.etagOf(cached.version());
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(cached.withCurrentAge());
     }
 
 
     @DeleteMapping("/{id}")
     @ResponseStatus(code = HttpStatus.NO_CONTENT)
     public void deleteAsset(@PathVariable String id){
-        assetRepo.deleteById(id);
+        assetService.deleteAsset(id);
+    }
+
+    private static long parseVersion(String ifMatch) {
+        String etag = ifMatch.trim();
+        if (etag.startsWith("W/")) {
+            etag = etag.substring(2);
+        }
+        etag = etag.replace("\"", "");
+        // "<version>-<date>", see AssetResponseDto.etagOf; only the version matters for a write
+        int dash = etag.indexOf('-');
+        try {
+            return Long.parseLong(dash < 0 ? etag : etag.substring(0, dash));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match is not an asset version: " + ifMatch);
+        }
     }
 
 }
@@ -1,32 +1,97 @@
-//package com.greenko.assetmanagement.batch.api;
-//
-//import org.springframework.batch.core.job.Job;
-//import org.springframework.batch.core.job.parameters.JobParameters;
-//import org.springframework.batch.core.job.parameters.JobParametersBuilder;
-//
-//import org.springframework.batch.core.launch.JobLauncher;
-//import org.springframework.beans.factory.annotation.Autowired;
-//import org.springframework.web.bind.annotation.PostMapping;
-//import org.springframework.web.bind.annotation.RequestMapping;
-//import org.springframework.web.bind.annotation.RestController;
-//
-//@RestController
-//@RequestMapping("/admin/batch")
-//public class BatchAssetController {
-//
-//    @Autowired
-//    JobLauncher jobLauncher;
-//
-//    @Autowired
-//    Job assetImportJob;
-//
-//    @PostMapping("/import-assets")
-//    public String runJob() throws Exception {
-//        JobParameters params = new JobParametersBuilder()
-//                .addLong("startAt", System.currentTimeMillis())
-//                .toJobParameters();
-//
-//        jobLauncher.run(assetImportJob, params);
-//        return "Asset import started";
-//    }
-//}
+package com.greenko.assetmanagement.batch.api;
+
+import com.greenko.assetmanagement.batch.support.AssetImportStatus;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParameters;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/admin/batch")
+public class BatchAssetController {
+
+    @Autowired
+    @Qualifier("asyncJobOperator")
+    JobOperator jobOperator;
+
+    @Autowired
+    JobRepository jobRepository;
+
+    @Autowired
+    Job assetImportJob;
+
+    @Value("${assets.import.directory:data/import}")
+    String importDirectory;
+
+    // 202 with the execution id; poll the Location header for progress.
+    // file is relative to assets.import.directory
+    @PostMapping("/import-assets")
+    public ResponseEntity<AssetImportStatus> runJob(@RequestParam("file") String file) throws Exception {
+        JobParameters params = new JobParametersBuilder()
+                .addString("inputFile", resolveImportFile(file).toString())
+                .addLong("startAt", System.currentTimeMillis())
+                .toJobParameters();
+
+        return launch(params);
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<AssetImportStatus> getJob(@PathVariable long id) {
+        JobExecution execution = jobRepository.getJobExecution(id);
+        if (execution == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(AssetImportStatus.of(execution));
+    }
+
+    // relaunching with the same parameters restarts the instance; every partition
+    // resumes from the offset saved with its last committed chunk. A completed or
+    // still running execution is a 409
+    @PostMapping("/jobs/{id}/restart")
+    public ResponseEntity<AssetImportStatus> restartJob(@PathVariable long id) throws Exception {
+        JobExecution failed = jobRepository.getJobExecution(id);
+        if (failed == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return launch(failed.getJobParameters());
+    }
+
+    private ResponseEntity<AssetImportStatus> launch(JobParameters params) throws Exception {
+        JobExecution execution = jobOperator.start(assetImportJob, params);
+        return ResponseEntity.accepted()
+                .location(URI.create("/admin/batch/jobs/" + execution.getId()))
+                .body(AssetImportStatus.of(execution));
+    }
+
+    // real paths, so neither ../ nor a symlink can reach a file outside the import directory
+    private Path resolveImportFile(String file) {
+        try {
+            Path directory = Path.of(importDirectory).toRealPath();
+            Path resolved = directory.resolve(file).toRealPath();
+            if (resolved.startsWith(directory) && Files.isRegularFile(resolved)) {
+                return resolved;
+            }
+        } catch (IOException | InvalidPathException e) {
+            // missing file or directory, reported below
+        }
+        throw new IllegalArgumentException("No file " + file + " in the asset import directory");
+    }
+}
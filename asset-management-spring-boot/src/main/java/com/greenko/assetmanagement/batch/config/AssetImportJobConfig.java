@@ -0,0 +1,166 @@
+package com.greenko.assetmanagement.batch.config;
+
+import com.greenko.assetmanagement.batch.support.AssetImportJobListener;
+import com.greenko.assetmanagement.batch.support.ByteRangeAssetReader;
+import com.greenko.assetmanagement.batch.support.ByteRangePartitioner;
+import com.greenko.assetmanagement.dto.AssetRequestDto;
+import com.greenko.assetmanagement.event.AssetChangeEvent;
+import com.greenko.assetmanagement.event.AssetChangeType;
+import com.greenko.assetmanagement.model.Asset;
+import com.greenko.assetmanagement.service.AssetChangeLog;
+import com.greenko.assetmanagement.service.AssetCollectionVersion;
+import com.greenko.assetmanagement.util.AssetEntityDtoUtil;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.configuration.support.MapJobRegistry;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.support.TaskExecutorJobOperator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.item.ItemProcessor;
+import org.springframework.batch.infrastructure.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.infrastructure.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.infrastructure.item.file.transform.FlatFileFormatException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.time.format.DateTimeParseException;
+
+/**
+ * assetImportJob: the CSV named by the {@code inputFile} job parameter is cut
+ * into byte ranges, and each range is read, mapped and JDBC-batch inserted by
+ * its own worker step in parallel.
+ */
+@Configuration
+public class AssetImportJobConfig {
+
+    public static final String JOB_NAME = "assetImportJob";
+    public static final String MANAGER_STEP_NAME = "assetImportStep";
+    public static final String WORKER_STEP_NAME = "assetImportWorkerStep";
+
+    // one chunk is one JDBC batch and one commit; matches hibernate.jdbc.batch_size
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_ASSET = """
+            insert into asset (asset_id, asset_name, asset_status, health, installed_date, location)
+            values (?, ?, ?, ?, ?, ?)""";
+
+    @Bean
+    @StepScope
+    public ByteRangePartitioner assetFilePartitioner(@Value("#{jobParameters['inputFile']}") String inputFile) {
+        return new ByteRangePartitioner(Path.of(inputFile));
+    }
+
+    @Bean
+    @StepScope
+    public ByteRangeAssetReader assetReader(@Value("#{jobParameters['inputFile']}") String inputFile,
+                                            @Value("#{stepExecutionContext['start']}") Long start,
+                                            @Value("#{stepExecutionContext['end']}") Long end) {
+        return new ByteRangeAssetReader(Path.of(inputFile), start, end);
+    }
+
+    @Bean
+    public ItemProcessor<AssetRequestDto, Asset> assetProcessor() {
+        return AssetEntityDtoUtil::toEntity;
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<Asset> assetWriter(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<Asset>()
+                .dataSource(dataSource)
+                .sql(INSERT_ASSET)
+                .itemPreparedStatementSetter((asset, ps) -> {
+                    ps.setString(1, asset.getAssetId());
+                    ps.setString(2, asset.getAssetName());
+                    ps.setString(3, asset.getStatus() == null ? null : asset.getStatus().name());
+                    ps.setString(4, asset.getHealth() == null ? null : asset.getHealth().name());
+                    ps.setObject(5, asset.getInstalledDate(), Types.DATE);
+                    ps.setString(6, asset.getLocation());
+                })
+                .build();
+    }
+
+    @Bean
+    public Step assetImportWorkerStep(JobRepository jobRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      ByteRangeAssetReader assetReader,
+                                      ItemProcessor<AssetRequestDto, Asset> assetProcessor,
+                                      JdbcBatchItemWriter<Asset> assetWriter,
+                                      AssetCollectionVersion collectionVersion,
+                                      AssetChangeLog changeLog,
+                                      ApplicationEventPublisher eventPublisher,
+                                      @Value("${assets.import.skip-limit:100}") long skipLimit) {
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository)
+                .<AssetRequestDto, Asset>chunk(CHUNK_SIZE)
+                .transactionManager(transactionManager)
+                .reader(assetReader)
+                .processor(assetProcessor)
+                .writer(chunk -> {
+                    assetWriter.write(chunk);
+                    for (Asset asset : chunk) {
+                        changeLog.record(AssetChangeType.CREATED, asset.getAssetId());
+                    }
+                    collectionVersion.changed();
+                    // delivered when the chunk commits; subscribers pull the rows through delta sync
+                    eventPublisher.publishEvent(AssetChangeEvent.bulk());
+                })
+                // malformed lines (bad field count, unknown status or health, bad date) are
+                // skipped and counted; the partition fails once it passes the limit
+                .faultTolerant()
+                .skip(FlatFileFormatException.class, IllegalArgumentException.class, DateTimeParseException.class)
+                .skipLimit(skipLimit)
+                .build();
+    }
+
+    @Bean
+    public Step assetImportStep(JobRepository jobRepository,
+                                ByteRangePartitioner assetFilePartitioner,
+                                Step assetImportWorkerStep,
+                                @Value("${assets.import.grid-size:4}") int gridSize) {
+        // not a bean: a TaskExecutor bean would displace Boot's applicationTaskExecutor
+        SimpleAsyncTaskExecutor partitionExecutor = new SimpleAsyncTaskExecutor("asset-import-");
+        partitionExecutor.setConcurrencyLimit(gridSize);
+
+        return new StepBuilder(MANAGER_STEP_NAME, jobRepository)
+                .partitioner(WORKER_STEP_NAME, assetFilePartitioner)
+                .step(assetImportWorkerStep)
+                .gridSize(gridSize)
+                .taskExecutor(partitionExecutor)
+                .build();
+    }
+
+    // returns as soon as the execution is created; the job itself runs on a virtual thread
+    @Bean
+    public JobOperator asyncJobOperator(JobRepository jobRepository, Job assetImportJob) throws Exception {
+        SimpleAsyncTaskExecutor jobExecutor = new SimpleAsyncTaskExecutor("asset-import-job-");
+        jobExecutor.setVirtualThreads(true);
+
+        MapJobRegistry jobRegistry = new MapJobRegistry();
+        jobRegistry.register(assetImportJob);
+
+        TaskExecutorJobOperator jobOperator = new TaskExecutorJobOperator();
+        jobOperator.setJobRepository(jobRepository);
+        jobOperator.setJobRegistry(jobRegistry);
+        jobOperator.setTaskExecutor(jobExecutor);
+        jobOperator.afterPropertiesSet();
+        return jobOperator;
+    }
+
+    @Bean
+    public Job assetImportJob(JobRepository jobRepository, Step assetImportStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(new AssetImportJobListener())
+                .start(assetImportStep)
+                .build();
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.greenko.assetmanagement.batch.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.listener.JobExecutionListener;
+
+public class AssetImportJobListener implements JobExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetImportJobListener.class);
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        AssetImportStatus status = AssetImportStatus.of(jobExecution);
+        log.info("{} {} {}: read={} written={} skipped={} ({} rows/sec)",
+                jobExecution.getJobInstance().getJobName(),
+                status.executionId(),
+                status.status(),
+                status.readCount(),
+                status.writeCount(),
+                status.skipCount(),
+                String.format("%.1f", status.rowsPerSecond()));
+    }
+}
@@ -0,0 +1,60 @@
+package com.greenko.assetmanagement.batch.support;
+
+import com.greenko.assetmanagement.batch.config.AssetImportJobConfig;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.step.StepExecution;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one assetImportJob execution. Counts are summed over the worker
+ * partitions, which commit them with every chunk, so they are live while the
+ * job is still running.
+ */
+public record AssetImportStatus(
+        long executionId,
+        String status,
+        String exitCode,
+        long readCount,
+        long writeCount,
+        long skipCount,
+        double rowsPerSecond,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+
+    public static AssetImportStatus of(JobExecution execution) {
+        long read = 0;
+        long written = 0;
+        long skipped = 0;
+        for (StepExecution step : execution.getStepExecutions()) {
+            if (step.getStepName().startsWith(AssetImportJobConfig.WORKER_STEP_NAME + ":")) {
+                read += step.getReadCount();
+                written += step.getWriteCount();
+                skipped += step.getSkipCount();
+            }
+        }
+
+        return new AssetImportStatus(
+                execution.getId(),
+                execution.getStatus().name(),
+                execution.getExitStatus().getExitCode(),
+                read,
+                written,
+                skipped,
+                rowsPerSecond(written, execution.getStartTime(), execution.getEndTime()),
+                execution.getStartTime(),
+                execution.getEndTime()
+        );
+    }
+
+    private static double rowsPerSecond(long written, LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null) {
+            return 0;
+        }
+        LocalDateTime until = endTime != null ? endTime : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(startTime, until).toMillis());
+        return written * 1000.0 / millis;
+    }
+}
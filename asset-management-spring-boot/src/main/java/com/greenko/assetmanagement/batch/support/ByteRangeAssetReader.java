@@ -0,0 +1,135 @@
+package com.greenko.assetmanagement.batch.support;
+
+import com.greenko.assetmanagement.dto.AssetRequestDto;
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+import org.springframework.batch.infrastructure.item.ItemStreamException;
+import org.springframework.batch.infrastructure.item.ItemStreamReader;
+import org.springframework.batch.infrastructure.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.infrastructure.item.file.transform.FieldSet;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Reads the CSV lines that start inside {@code [start, end)}. A line that
+ * straddles {@code start} belongs to the previous partition and is skipped;
+ * a line that straddles {@code end} is read to completion. The byte offset of
+ * the next unread line is saved on every chunk commit so a restarted
+ * partition resumes right after the last committed chunk.
+ */
+public class ByteRangeAssetReader implements ItemStreamReader<AssetRequestDto> {
+
+    static final String POSITION_KEY = "position";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final long start;
+    private final long end;
+    private final DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+    private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream(256);
+
+    private FileChannel channel;
+    private InputStream in;
+    private long position;
+
+    public ByteRangeAssetReader(Path file, long start, long end) {
+        this.file = file;
+        this.start = start;
+        this.end = end;
+        tokenizer.setNames("assetName", "status", "health", "installedDate", "location");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            if (executionContext.containsKey(POSITION_KEY)) {
+                seek(executionContext.getLong(POSITION_KEY));
+            } else if (start == 0) {
+                seek(0);
+                readLine(); // header
+            } else {
+                // finish the line the previous partition owns
+                seek(start - 1);
+                readLine();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open " + file + " at " + start, e);
+        }
+    }
+
+    @Override
+    public AssetRequestDto read() throws IOException {
+        while (position < end) {
+            String line = readLine();
+            if (line == null) {
+                return null;
+            }
+            if (!line.isBlank()) {
+                return toDto(tokenizer.tokenize(line));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(POSITION_KEY, position);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close " + file, e);
+        }
+    }
+
+    private void seek(long offset) throws IOException {
+        channel.position(offset);
+        in = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+        position = offset;
+    }
+
+    // byte-wise so that position is an exact file offset, whatever the line length
+    private String readLine() throws IOException {
+        lineBuffer.reset();
+        int b;
+        while ((b = in.read()) != -1) {
+            position++;
+            if (b == '\n') {
+                break;
+            }
+            lineBuffer.write(b);
+        }
+        if (b == -1 && lineBuffer.size() == 0) {
+            return null;
+        }
+        String line = lineBuffer.toString(StandardCharsets.UTF_8);
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    private static AssetRequestDto toDto(FieldSet fields) {
+        return new AssetRequestDto(
+                fields.readString("assetName"),
+                AssetStatus.valueOf(fields.readString("status")),
+                AssetHealth.valueOf(fields.readString("health")),
+                LocalDate.parse(fields.readString("installedDate")),
+                fields.readString("location")
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.greenko.assetmanagement.batch.support;
+
+import org.springframework.batch.core.partition.Partitioner;
+import org.springframework.batch.infrastructure.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Splits a file into {@code gridSize} contiguous byte ranges. Ranges are cut
+ * blindly; {@link ByteRangeAssetReader} realigns them on line boundaries.
+ */
+public class ByteRangePartitioner implements Partitioner {
+
+    public static final String START_KEY = "start";
+    public static final String END_KEY = "end";
+
+    private final Path file;
+
+    public ByteRangePartitioner(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read size of " + file, e);
+        }
+
+        int partitions = (int) Math.max(1, Math.min(gridSize, size));
+        long rangeSize = size / partitions;
+
+        Map<String, ExecutionContext> contexts = new HashMap<>();
+        for (int i = 0; i < partitions; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(START_KEY, i * rangeSize);
+            context.putLong(END_KEY, i == partitions - 1 ? size : (i + 1) * rangeSize);
+            contexts.put("partition" + i, context);
+        }
+        return contexts;
+    }
+}
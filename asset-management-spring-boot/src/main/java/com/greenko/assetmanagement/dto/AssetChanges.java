@@ -0,0 +1,21 @@
+package com.greenko.assetmanagement.dto;
+
+import java.util.List;
+
+/**
+ * Asset ids changed since a change token. {@code nextToken} is passed as
+ * {@code since} on the next call; when {@code hasMore} is set there are
+ * further changes and the client should call again straight away. When
+ * {@code fullResync} is set the token was missing or older than the change
+ * retention, and the client must reload the full list before syncing from
+ * {@code nextToken}.
+ */
+public record AssetChanges(
+        List<String> inserted,
+        List<String> updated,
+        List<String> deleted,
+        String nextToken,
+        boolean fullResync,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,10 @@
+package com.greenko.assetmanagement.dto;
+
+import java.util.List;
+
+/**
+ * One keyset page of assets. {@code nextCursor} is the id to pass as
+ * {@code after} for the following page, or {@code null} on the last page.
+ */
+public record AssetPage<T>(List<T> items, String nextCursor) {
+}
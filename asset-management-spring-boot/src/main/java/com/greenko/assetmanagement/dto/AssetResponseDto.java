@@ -2,6 +2,7 @@ package com.greenko.assetmanagement.dto;
 
 import com.greenko.assetmanagement.model.AssetHealth;
 import com.greenko.assetmanagement.model.AssetStatus;
+import com.greenko.assetmanagement.util.AssetAge;
 
 import java.time.LocalDate;
 
@@ -12,6 +13,26 @@ public record AssetResponseDto(
         AssetHealth health,
         LocalDate installedDate,
         String location,
-        String age
+        String age,
+        Long version
 ) {
+
+    // target of the JPQL constructor expressions in AssetRepository; age is derived once here, not stored
+    public AssetResponseDto(String assetId, String assetName, AssetStatus status, AssetHealth health,
+                            LocalDate installedDate, String location, Long version) {
+        this(assetId, assetName, status, health, installedDate, location, AssetAge.of(installedDate), version);
+    }
+
+    // cached instances outlive the day their age was computed on
+    public AssetResponseDto withCurrentAge() {
+        String currentAge = AssetAge.of(installedDate);
+        return currentAge.equals(age) ? this
+                : new AssetResponseDto(assetId, assetName, status, health, installedDate, location, currentAge, version);
+    }
+
+    // strong ETag of the single-asset resource: the row version plus the day age is computed
+    // for, since age changes at midnight without a write. The version is what If-Match reads back
+    public static String etagOf(Long version) {
+        return "\"" + version + "-" + AssetAge.today() + "\"";
+    }
 }
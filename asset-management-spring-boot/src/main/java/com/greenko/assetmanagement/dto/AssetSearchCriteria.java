@@ -0,0 +1,24 @@
+package com.greenko.assetmanagement.dto;
+
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+
+import java.time.LocalDate;
+
+// every field is optional; null means "do not filter on this"
+public record AssetSearchCriteria(
+        String name,
+        AssetStatus status,
+        AssetHealth health,
+        Integer year,
+        String location,
+        LocalDate installedFrom,
+        LocalDate installedTo,
+        Integer minAgeYears,
+        Integer maxAgeYears
+) {
+
+    public static AssetSearchCriteria none() {
+        return new AssetSearchCriteria(null, null, null, null, null, null, null, null, null);
+    }
+}
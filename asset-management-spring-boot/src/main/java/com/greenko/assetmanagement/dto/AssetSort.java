@@ -0,0 +1,7 @@
+package com.greenko.assetmanagement.dto;
+
+// AGE is youngest first, AGE_DESC oldest first; both order by installedDate and list
+// assets without one last rather than leaving them out
+public enum AssetSort {
+    ASSET_ID, AGE, AGE_DESC
+}
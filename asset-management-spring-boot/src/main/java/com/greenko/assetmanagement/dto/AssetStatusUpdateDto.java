@@ -0,0 +1,6 @@
+package com.greenko.assetmanagement.dto;
+
+import com.greenko.assetmanagement.model.AssetStatus;
+
+public record AssetStatusUpdateDto(AssetStatus status) {
+}
@@ -0,0 +1,4 @@
+package com.greenko.assetmanagement.dto;
+
+public record BulkAssetResponse(int created) {
+}
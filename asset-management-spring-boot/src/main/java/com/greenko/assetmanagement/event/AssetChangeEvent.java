@@ -0,0 +1,9 @@
+package com.greenko.assetmanagement.event;
+
+// published inside the writing transaction, delivered to subscribers after commit
+public record AssetChangeEvent(AssetChangeType type, String assetId, Long version) {
+
+    public static AssetChangeEvent bulk() {
+        return new AssetChangeEvent(AssetChangeType.BULK, null, null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.greenko.assetmanagement.event;
+
+// BULK carries no asset id: clients catch up through /api/v1/assets/changes
+public enum AssetChangeType {
+    CREATED, UPDATED, DELETED, BULK;
+
+    // net effect of this change followed by next on the same asset: an asset created and then
+    // updated is still new to the client, and a delete wins over anything before it
+    public AssetChangeType then(AssetChangeType next) {
+        if (next == DELETED || this != CREATED) {
+            return next;
+        }
+        return CREATED;
+    }
+}
@@ -0,0 +1,84 @@
+package com.greenko.assetmanagement.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process fan-out of committed asset changes to SSE subscribers. Every
+ * event gets a global sequence number, sent as the SSE id. Numbering and
+ * enqueueing happen together under one lock, so each subscriber queue holds
+ * events in sequence order even when transactions commit on several threads;
+ * an out-of-order id would look like a gap and force a needless resync.
+ */
+@Component
+public class AssetEventBroadcaster {
+
+    private final Set<AssetEventSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Object fanOutLock = new Object();
+    private long sequence;
+    private final ExecutorService drainExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final Duration timeout;
+    private final Counter droppedEvents;
+
+    public AssetEventBroadcaster(@Value("${assets.events.buffer-size:256}") int bufferSize,
+                                 @Value("${assets.events.timeout:30m}") Duration timeout,
+                                 MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.droppedEvents = meterRegistry.counter("assets.events.dropped");
+        meterRegistry.gauge("assets.events.subscribers", subscribers, Set::size);
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        AssetEventSubscriber subscriber = new AssetEventSubscriber(emitter, bufferSize, drainExecutor);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    // events published outside a transaction are delivered immediately; offer never blocks,
+    // so the lock is only held for the enqueue itself
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChange(AssetChangeEvent event) {
+        synchronized (fanOutLock) {
+            long next = ++sequence;
+            for (AssetEventSubscriber subscriber : subscribers) {
+                if (subscriber.isClosed()) {
+                    subscribers.remove(subscriber);
+                } else {
+                    droppedEvents.increment(subscriber.offer(next, event));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+        drainExecutor.shutdownNow();
+    }
+
+    private void remove(AssetEventSubscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
+    }
+}
@@ -0,0 +1,83 @@
+package com.greenko.assetmanagement.event;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One SSE connection. Events wait in a bounded queue and are written by a
+ * drain task, so the publisher never blocks on a slow client; when the queue
+ * is full the oldest event is dropped. Clients detect the gap from the event
+ * ids and resync through the delta endpoint.
+ */
+class AssetEventSubscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<SequencedEvent> queue;
+    private final Executor drainExecutor;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    AssetEventSubscriber(SseEmitter emitter, int bufferSize, Executor drainExecutor) {
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.drainExecutor = drainExecutor;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    // returns the number of events dropped to make room
+    int offer(long sequence, AssetChangeEvent event) {
+        SequencedEvent sequenced = new SequencedEvent(sequence, event);
+        int dropped = 0;
+        while (!queue.offer(sequenced)) {
+            if (queue.poll() != null) {
+                dropped++;
+            }
+        }
+        if (draining.compareAndSet(false, true)) {
+            drainExecutor.execute(this::drain);
+        }
+        return dropped;
+    }
+
+    private void drain() {
+        try {
+            SequencedEvent next;
+            while (!closed && (next = queue.poll()) != null) {
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(next.sequence()))
+                        .name("asset")
+                        .data(next.event()));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // client went away; the broadcaster prunes closed subscribers
+            close();
+            emitter.completeWithError(e);
+        } finally {
+            draining.set(false);
+        }
+        // an event may have arrived after the last poll but before the flag was cleared
+        if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) {
+            drainExecutor.execute(this::drain);
+        }
+    }
+
+    private record SequencedEvent(long sequence, AssetChangeEvent event) {
+    }
+}
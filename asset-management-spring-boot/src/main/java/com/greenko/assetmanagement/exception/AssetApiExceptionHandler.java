@@ -2,6 +2,9 @@ package com.greenko.assetmanagement.exception;
 
 import com.greenko.assetmanagement.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.batch.core.job.JobExecutionException;
+import org.springframework.batch.core.launch.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.launch.JobInstanceAlreadyCompleteException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -30,11 +33,66 @@ public class AssetApiExceptionHandler {
         return ResponseEntity.status(status).body(body);
     }
 
+    @ExceptionHandler({AssetVersionConflictException.class})
+    public ResponseEntity<ErrorResponse> handleAssetVersionConflictException(AssetVersionConflictException e,
+                                                                             HttpServletRequest request){
+
+        var status = HttpStatus.PRECONDITION_FAILED;
+        var body = new  ErrorResponse(
+                e.getMessage(),
+                status.value(),
+                LocalDateTime.now(),
+                status.getReasonPhrase(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status).body(body);
+    }
+
+    // relaunching an import that already completed or is still running
+    @ExceptionHandler({JobInstanceAlreadyCompleteException.class, JobExecutionAlreadyRunningException.class})
+    public ResponseEntity<ErrorResponse> handleJobConflictException(JobExecutionException e,
+                                                                    HttpServletRequest request){
+
+        var status = HttpStatus.CONFLICT;
+        var body = new  ErrorResponse(
+                e.getMessage(),
+                status.value(),
+                LocalDateTime.now(),
+                status.getReasonPhrase(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status).body(body);
+    }
+
+    @ExceptionHandler({PayloadTooLargeException.class})
+    public ResponseEntity<ErrorResponse> handlePayloadTooLargeException(PayloadTooLargeException e,
+                                                                        HttpServletRequest request){
+
+        var status = HttpStatus.CONTENT_TOO_LARGE;
+        var body = new  ErrorResponse(
+                e.getMessage(),
+                status.value(),
+                LocalDateTime.now(),
+                status.getReasonPhrase(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status).body(body);
+    }
+
     @ResponseStatus(code = HttpStatus.BAD_REQUEST)
     @ExceptionHandler({MethodArgumentNotValidException.class})
     public String handleValidationException(MethodArgumentNotValidException e){
         return e.getMessage();
     }
 
+    @ResponseStatus(code = HttpStatus.BAD_REQUEST)
+    @ExceptionHandler({IllegalArgumentException.class})
+    public String handleIllegalArgumentException(IllegalArgumentException e){
+        return e.getMessage();
+    }
+
 
 }
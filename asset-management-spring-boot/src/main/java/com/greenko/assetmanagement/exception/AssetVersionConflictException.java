@@ -0,0 +1,11 @@
+package com.greenko.assetmanagement.exception;
+
+public class AssetVersionConflictException extends RuntimeException{
+
+    public AssetVersionConflictException() {
+    }
+
+    public AssetVersionConflictException(String message) {
+        super(message);
+    }
+}
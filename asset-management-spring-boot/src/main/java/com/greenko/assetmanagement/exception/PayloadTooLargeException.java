@@ -0,0 +1,11 @@
+package com.greenko.assetmanagement.exception;
+
+public class PayloadTooLargeException extends RuntimeException{
+
+    public PayloadTooLargeException() {
+    }
+
+    public PayloadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,8 @@
 package com.greenko.assetmanagement.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.repository.Query;
 
 
@@ -8,10 +10,17 @@ import java.time.LocalDate;
 
 
 @Entity
+@Table(name = "asset", indexes = {
+        @Index(name = "idx_asset_name", columnList = "asset_name"),
+        @Index(name = "idx_asset_status_name", columnList = "asset_status, asset_name"),
+        @Index(name = "idx_asset_health", columnList = "health"),
+        @Index(name = "idx_asset_installed_date", columnList = "installed_date"),
+        @Index(name = "idx_asset_location", columnList = "location")
+})
 @NamedQueries(
         @NamedQuery(name = "findByHealth", query = "from Asset where health=:health")
 )
-public class Asset {
+public class Asset implements Persistable<String> {
 
     @Id
     private String assetId;
@@ -25,6 +34,13 @@ public class Asset {
     private LocalDate installedDate;
     @Column(length = 100)
     private String location;
+    @Version
+    private Long version;
+
+    // ids are assigned by the application, so Spring Data cannot tell new from existing
+    // by a null id; without this flag every save() would select before inserting
+    @Transient
+    private boolean isNew = true;
 
     public Asset(String assetId, String assetName, AssetStatus status, AssetHealth health, LocalDate installedDate, String location) {
         this.assetId = assetId;
@@ -85,4 +101,26 @@ public class Asset {
     public void setLocation(String location) {
         this.location = location;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return assetId;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
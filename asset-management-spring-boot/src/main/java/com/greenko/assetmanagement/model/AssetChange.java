@@ -0,0 +1,7 @@
+package com.greenko.assetmanagement.model;
+
+import com.greenko.assetmanagement.event.AssetChangeType;
+
+// one asset_change row; seq is in commit order
+public record AssetChange(long seq, String assetId, AssetChangeType type) {
+}
@@ -0,0 +1,106 @@
+package com.greenko.assetmanagement.repository;
+
+import com.greenko.assetmanagement.event.AssetChangeType;
+import com.greenko.assetmanagement.model.AssetChange;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class AssetChangeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AssetChangeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // locks the sequence row until the calling transaction ends; returns the last number reserved
+    public long reserve(int count) {
+        jdbcTemplate.update("update asset_change_sequence set last_seq = last_seq + ? where id = 1", count);
+        return lastSequence();
+    }
+
+    public long lastSequence() {
+        return jdbcTemplate.queryForObject("select last_seq from asset_change_sequence where id = 1", Long.class);
+    }
+
+    public long purgedSequence() {
+        return jdbcTemplate.queryForObject("select purged_seq from asset_change_sequence where id = 1", Long.class);
+    }
+
+    // changes are numbered firstSeq, firstSeq + 1, ... in list order
+    public void insert(long firstSeq, List<Map.Entry<String, AssetChangeType>> changes, long changedAt) {
+        jdbcTemplate.batchUpdate(
+                "insert into asset_change (change_seq, asset_id, change_type, changed_at) values (?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Map.Entry<String, AssetChangeType> change = changes.get(i);
+                        ps.setLong(1, firstSeq + i);
+                        ps.setString(2, change.getKey());
+                        ps.setString(3, change.getValue().name());
+                        ps.setLong(4, changedAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return changes.size();
+                    }
+                });
+    }
+
+    // changes are staged as ordinal firstOrdinal, firstOrdinal + 1, ... in list order
+    public void stage(String txnId, int firstOrdinal, List<Map.Entry<String, AssetChangeType>> changes) {
+        jdbcTemplate.batchUpdate(
+                "insert into asset_change_pending (txn_id, ordinal, asset_id, change_type) values (?, ?, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Map.Entry<String, AssetChangeType> change = changes.get(i);
+                        ps.setString(1, txnId);
+                        ps.setInt(2, firstOrdinal + i);
+                        ps.setString(3, change.getKey());
+                        ps.setString(4, change.getValue().name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return changes.size();
+                    }
+                });
+    }
+
+    // moves the staged changes into asset_change, numbered firstSeq + ordinal
+    public void insertStaged(String txnId, long firstSeq, long changedAt) {
+        jdbcTemplate.update("""
+                insert into asset_change (change_seq, asset_id, change_type, changed_at)
+                select ? + ordinal, asset_id, change_type, ? from asset_change_pending where txn_id = ?""",
+                firstSeq, changedAt, txnId);
+        jdbcTemplate.update("delete from asset_change_pending where txn_id = ?", txnId);
+    }
+
+    public List<AssetChange> findAfter(long since, int limit) {
+        return jdbcTemplate.query(
+                "select change_seq, asset_id, change_type from asset_change where change_seq > ? order by change_seq limit ?",
+                (rs, rowNum) -> new AssetChange(rs.getLong(1), rs.getString(2), AssetChangeType.valueOf(rs.getString(3))),
+                since, limit);
+    }
+
+    // returns the rows removed; purged_seq only moves forward
+    public int deleteOlderThan(long cutoff) {
+        Long purgedThrough = jdbcTemplate.queryForObject(
+                "select max(change_seq) from asset_change where changed_at < ?", Long.class, cutoff);
+        if (purgedThrough == null) {
+            return 0;
+        }
+        jdbcTemplate.update("update asset_change_sequence set purged_seq = greatest(purged_seq, ?) where id = 1",
+                purgedThrough);
+        return jdbcTemplate.update("delete from asset_change where change_seq <= ?", purgedThrough);
+    }
+}
@@ -1,17 +1,30 @@
 package com.greenko.assetmanagement.repository;
 
+import com.greenko.assetmanagement.dto.AssetResponseDto;
 import com.greenko.assetmanagement.model.Asset;
 import com.greenko.assetmanagement.model.AssetHealth;
 import com.greenko.assetmanagement.model.AssetStatus;
 import jakarta.persistence.NamedQuery;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
-public interface AssetRepository extends JpaRepository<Asset, String> {
+public interface AssetRepository extends JpaRepository<Asset, String>, AssetSearchRepository {
+
+    // DTO projection: rows never become managed entities, so reads skip
+    // persistence-context registration and dirty-check snapshots
+    String SELECT_RESPONSE_DTO = "select new com.greenko.assetmanagement.dto.AssetResponseDto("
+            + "a.assetId, a.assetName, a.status, a.health, a.installedDate, a.location, a.version) from Asset a ";
 
     List<Asset> findByAssetName(String assetName);
 
@@ -20,13 +33,48 @@ public interface AssetRepository extends JpaRepository<Asset, String> {
 
     List<Asset> findByStatusAndAssetName(AssetStatus status, String assetName);
 
+    List<Asset> findByInstalledDateBetween(LocalDate from, LocalDate to);
+
     // @Query("from Asset where year(installedDate)=:year")
     // @Query("from Asset where extract(year from installedDate) =:year")
-    @Query(value = "select * from asset where extract(year from installed_date) = :year", nativeQuery = true)
-    List<Asset> findByYear(int year);
+    // extract() on the column defeats any index, so the year is turned into a date range instead
+    default List<Asset> findByYear(int year) {
+        return findByInstalledDateBetween(LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+    }
 
     @Query(name = "findByHealth")
     List<Asset> findByHealth(AssetHealth health);
 
+    @Query(SELECT_RESPONSE_DTO + "where a.assetId = :assetId")
+    Optional<AssetResponseDto> findResponseById(String assetId);
+
+    @Query(SELECT_RESPONSE_DTO + "order by a.assetId")
+    List<AssetResponseDto> findFirstPage(Limit limit);
+
+    @Query(SELECT_RESPONSE_DTO + "where a.assetId > :after order by a.assetId")
+    List<AssetResponseDto> findPageAfter(String after, Limit limit);
+
+    // optimistic-locking writes in one statement, no read first; 0 rows means missing or stale version
+    @Modifying
+    @Query("update Asset a set a.assetName = :assetName, a.status = :status, a.health = :health, "
+            + "a.installedDate = :installedDate, a.location = :location, a.version = a.version + 1 "
+            + "where a.assetId = :assetId and a.version = :version")
+    int updateAsset(String assetId, long version, String assetName, AssetStatus status, AssetHealth health,
+                    LocalDate installedDate, String location);
+
+    @Modifying
+    @Query("update Asset a set a.status = :status, a.version = a.version + 1 "
+            + "where a.assetId = :assetId and a.version = :version")
+    int updateStatus(String assetId, long version, AssetStatus status);
+
+    // single statement, no select-then-remove; returns the number of rows deleted
+    @Modifying
+    @Query("delete from Asset a where a.assetId = :assetId")
+    int deleteByAssetId(String assetId);
+
+    // must be consumed inside a transaction and closed; rows are fetched from the cursor in chunks
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_RESPONSE_DTO + "order by a.assetId")
+    Stream<AssetResponseDto> streamAll();
 
 }
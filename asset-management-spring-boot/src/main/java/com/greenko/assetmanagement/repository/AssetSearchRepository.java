@@ -0,0 +1,25 @@
+package com.greenko.assetmanagement.repository;
+
+import com.greenko.assetmanagement.dto.AssetResponseDto;
+import com.greenko.assetmanagement.dto.AssetSearchCriteria;
+import com.greenko.assetmanagement.dto.AssetSort;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+public interface AssetSearchRepository {
+
+    // one keyset page of matches in the given order, projected straight into the response DTO
+    List<AssetResponseDto> search(AssetSearchCriteria criteria, AssetSort sort, String after, Limit limit);
+
+    // the "after" value that continues a page ending with this asset: the assetId, or for
+    // age orders "installedDate_assetId" since installedDate alone is not unique; an undated
+    // asset has an empty date part, "_assetId"
+    static String cursorOf(AssetResponseDto last, AssetSort sort) {
+        if (sort == AssetSort.ASSET_ID) {
+            return last.assetId();
+        }
+        return (last.installedDate() == null ? "" : last.installedDate().toString()) + "_" + last.assetId();
+    }
+
+}
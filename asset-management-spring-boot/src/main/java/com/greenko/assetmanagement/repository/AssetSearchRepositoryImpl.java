@@ -0,0 +1,97 @@
+package com.greenko.assetmanagement.repository;
+
+import com.greenko.assetmanagement.dto.AssetResponseDto;
+import com.greenko.assetmanagement.dto.AssetSearchCriteria;
+import com.greenko.assetmanagement.dto.AssetSort;
+import com.greenko.assetmanagement.model.Asset;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Nulls;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+
+class AssetSearchRepositoryImpl implements AssetSearchRepository {
+
+    private final EntityManager entityManager;
+
+    AssetSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<AssetResponseDto> search(AssetSearchCriteria criteria, AssetSort sort, String after, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AssetResponseDto> query = cb.createQuery(AssetResponseDto.class);
+        Root<Asset> asset = query.from(Asset.class);
+        Path<String> assetId = asset.get("assetId");
+        Path<LocalDate> installedDate = asset.get("installedDate");
+
+        Predicate filter = AssetSpecifications.matching(criteria).toPredicate(asset, query, cb);
+        switch (sort) {
+            case ASSET_ID -> {
+                if (after != null) {
+                    filter = cb.and(filter, cb.greaterThan(assetId, after));
+                }
+                query.orderBy(cb.asc(assetId));
+            }
+            case AGE -> {
+                if (after != null) {
+                    AgeCursor cursor = AgeCursor.parse(after);
+                    filter = cb.and(filter, cursor.installedDate() == null
+                            ? cb.and(cb.isNull(installedDate), cb.lessThan(assetId, cursor.assetId()))
+                            : cb.or(
+                                    cb.lessThan(installedDate, cursor.installedDate()),
+                                    cb.and(cb.equal(installedDate, cursor.installedDate()), cb.lessThan(assetId, cursor.assetId())),
+                                    cb.isNull(installedDate)));
+                }
+                query.orderBy(cb.desc(installedDate, Nulls.LAST), cb.desc(assetId));
+            }
+            case AGE_DESC -> {
+                if (after != null) {
+                    AgeCursor cursor = AgeCursor.parse(after);
+                    filter = cb.and(filter, cursor.installedDate() == null
+                            ? cb.and(cb.isNull(installedDate), cb.greaterThan(assetId, cursor.assetId()))
+                            : cb.or(
+                                    cb.greaterThan(installedDate, cursor.installedDate()),
+                                    cb.and(cb.equal(installedDate, cursor.installedDate()), cb.greaterThan(assetId, cursor.assetId())),
+                                    cb.isNull(installedDate)));
+                }
+                query.orderBy(cb.asc(installedDate, Nulls.LAST), cb.asc(assetId));
+            }
+        }
+
+        query.select(cb.construct(AssetResponseDto.class,
+                        assetId,
+                        asset.get("assetName"),
+                        asset.get("status"),
+                        asset.get("health"),
+                        installedDate,
+                        asset.get("location"),
+                        asset.get("version")))
+                .where(filter);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+
+    // see AssetSearchRepository.cursorOf
+    private record AgeCursor(LocalDate installedDate, String assetId) {
+
+        static AgeCursor parse(String cursor) {
+            int separator = cursor.indexOf('_');
+            try {
+                LocalDate installedDate = separator == 0 ? null : LocalDate.parse(cursor.substring(0, separator));
+                return new AgeCursor(installedDate, cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+        }
+    }
+}
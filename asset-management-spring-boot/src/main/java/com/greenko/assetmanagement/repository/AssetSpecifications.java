@@ -0,0 +1,63 @@
+package com.greenko.assetmanagement.repository;
+
+import com.greenko.assetmanagement.dto.AssetSearchCriteria;
+import com.greenko.assetmanagement.model.Asset;
+import com.greenko.assetmanagement.util.AssetAge;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds asset queries out of equality and range predicates only, so every
+ * filter can be answered from an index (no functions on columns, no leading wildcards).
+ */
+public final class AssetSpecifications {
+
+    private AssetSpecifications() {
+    }
+
+    public static Specification<Asset> matching(AssetSearchCriteria criteria) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (criteria.name() != null) {
+                predicates.add(cb.equal(root.get("assetName"), criteria.name()));
+            }
+            if (criteria.status() != null) {
+                predicates.add(cb.equal(root.get("status"), criteria.status()));
+            }
+            if (criteria.health() != null) {
+                predicates.add(cb.equal(root.get("health"), criteria.health()));
+            }
+            if (criteria.location() != null) {
+                predicates.add(cb.equal(root.get("location"), criteria.location()));
+            }
+            if (criteria.year() != null) {
+                predicates.add(cb.between(root.get("installedDate"),
+                        LocalDate.of(criteria.year(), 1, 1),
+                        LocalDate.of(criteria.year(), 12, 31)));
+            }
+            if (criteria.installedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("installedDate"), criteria.installedFrom()));
+            }
+            if (criteria.installedTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("installedDate"), criteria.installedTo()));
+            }
+            // age is never computed in SQL: the range is turned into installedDate bounds
+            if (criteria.minAgeYears() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("installedDate"),
+                        AssetAge.installedOnOrBefore(criteria.minAgeYears())));
+            }
+            if (criteria.maxAgeYears() != null) {
+                predicates.add(cb.greaterThan(root.get("installedDate"),
+                        AssetAge.installedAfter(criteria.maxAgeYears())));
+            }
+
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.greenko.assetmanagement.service;
+
+import com.greenko.assetmanagement.event.AssetChangeType;
+import com.greenko.assetmanagement.repository.AssetChangeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes asset_change rows for delta sync. Changes are collected per
+ * transaction, one net change per asset, and numbered just before commit: the
+ * sequence row stays locked from then until the commit, so numbers are handed
+ * out in commit order and a reader paging by number never skips a row that
+ * commits late. Only that final step is serialized between writers.
+ *
+ * A transaction holds at most BULK_FLUSH_SIZE assets in memory; past that its
+ * changes are written to asset_change_pending as it goes and moved into
+ * asset_change at commit, so a bulk load of any size keeps memory flat. An
+ * asset changed again after its first change was written out gets a second
+ * row, which readers fold into one net change as they do across transactions.
+ */
+@Component
+public class AssetChangeLog {
+
+    private final AssetChangeRepository changeRepo;
+
+    public AssetChangeLog(AssetChangeRepository changeRepo) {
+        this.changeRepo = changeRepo;
+    }
+
+    // must be called inside the writing transaction
+    public void record(AssetChangeType type, String assetId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Asset changes can only be recorded inside a transaction");
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.record(type, assetId);
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Map<String, AssetChangeType> changes = new LinkedHashMap<>();
+        private String txnId; // set once changes have been staged
+        private int staged;
+
+        void record(AssetChangeType type, String assetId) {
+            if (changes.size() == AssetService.BULK_FLUSH_SIZE && !changes.containsKey(assetId)) {
+                stage();
+            }
+            changes.merge(assetId, type, AssetChangeType::then);
+        }
+
+        // only the sequence reservation waits for commit; staged rows are already written
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            long changedAt = System.currentTimeMillis();
+            if (txnId == null) {
+                long last = changeRepo.reserve(changes.size());
+                changeRepo.insert(last - changes.size() + 1, new ArrayList<>(changes.entrySet()), changedAt);
+                return;
+            }
+            stage();
+            long last = changeRepo.reserve(staged);
+            changeRepo.insertStaged(txnId, last - staged + 1, changedAt);
+        }
+
+        private void stage() {
+            if (txnId == null) {
+                txnId = UUID.randomUUID().toString();
+            }
+            changeRepo.stage(txnId, staged, new ArrayList<>(changes.entrySet()));
+            staged += changes.size();
+            changes.clear();
+        }
+
+        // a nested REQUIRES_NEW transaction collects its own changes
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(AssetChangeLog.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(AssetChangeLog.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResource(AssetChangeLog.this);
+        }
+    }
+}
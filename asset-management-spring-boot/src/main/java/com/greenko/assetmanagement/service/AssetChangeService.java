@@ -0,0 +1,92 @@
+package com.greenko.assetmanagement.service;
+
+import com.greenko.assetmanagement.dto.AssetChanges;
+import com.greenko.assetmanagement.event.AssetChangeType;
+import com.greenko.assetmanagement.model.AssetChange;
+import com.greenko.assetmanagement.repository.AssetChangeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Delta sync over the asset_change log written by {@link AssetChangeLog}.
+ * A change token is the last change sequence number the client has applied.
+ * Sequence numbers follow commit order, so everything after the token is read
+ * as it stands, without waiting for in-flight transactions to settle.
+ */
+@Service
+public class AssetChangeService {
+
+    // change rows per call; hasMore tells the client to call again with nextToken
+    public static final int MAX_CHANGES = 1000;
+
+    private final AssetChangeRepository changeRepo;
+    private final Duration retention;
+
+    public AssetChangeService(AssetChangeRepository changeRepo,
+                              @Value("${assets.changes.retention:7d}") Duration retention) {
+        this.changeRepo = changeRepo;
+        this.retention = retention;
+    }
+
+    @Transactional(readOnly = true)
+    public AssetChanges getChanges(String since) {
+        long last = changeRepo.lastSequence();
+        if (since == null) {
+            return fullResync(last);
+        }
+
+        // purged past the token, or a token this database never issued
+        long from = parseToken(since);
+        if (from < changeRepo.purgedSequence() || from > last) {
+            return fullResync(last);
+        }
+
+        List<AssetChange> page = changeRepo.findAfter(from, MAX_CHANGES);
+        Map<String, AssetChangeType> net = new LinkedHashMap<>();
+        for (AssetChange change : page) {
+            net.merge(change.assetId(), change.type(), AssetChangeType::then);
+        }
+
+        List<String> inserted = new ArrayList<>();
+        List<String> updated = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        net.forEach((assetId, type) -> {
+            switch (type) {
+                case CREATED -> inserted.add(assetId);
+                case UPDATED -> updated.add(assetId);
+                case DELETED -> deleted.add(assetId);
+                case BULK -> throw new IllegalStateException("BULK is never logged");
+            }
+        });
+
+        String nextToken = page.isEmpty() ? since : Long.toString(page.getLast().seq());
+        return new AssetChanges(inserted, updated, deleted, nextToken, false, page.size() == MAX_CHANGES);
+    }
+
+    // change rows only need to outlive the oldest token a client may still hold
+    @Scheduled(cron = "${assets.changes.purge-cron:0 0 3 * * *}")
+    @Transactional
+    public void purgeChanges() {
+        changeRepo.deleteOlderThan(System.currentTimeMillis() - retention.toMillis());
+    }
+
+    private static AssetChanges fullResync(long last) {
+        return new AssetChanges(List.of(), List.of(), List.of(), Long.toString(last), true, false);
+    }
+
+    private static long parseToken(String token) {
+        try {
+            return Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid change token: " + token);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.greenko.assetmanagement.service;
+
+import com.greenko.assetmanagement.util.AssetAge;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counter bumped on every committed asset write, used as the ETag of the
+ * asset list endpoints so an unchanged collection is answered with 304
+ * before any query runs. Counts are per JVM. The ETag also carries
+ * {@link AssetAge#today()}: age, the age filters and the AGE sort all move
+ * at midnight without any write.
+ */
+@Component
+public class AssetCollectionVersion {
+
+    // distinguishes runs, so a restarted counter can never reproduce an ETag a client still holds
+    private final String generation = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong counter = new AtomicLong();
+
+    public String etag() {
+        return "\"" + generation + "-" + counter.get() + "-" + AssetAge.today() + "\"";
+    }
+
+    // inside a transaction the bump waits for the commit, so a reader can never
+    // pair the new ETag with the old rows
+    public void changed() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counter.incrementAndGet();
+                }
+            });
+        } else {
+            counter.incrementAndGet();
+        }
+    }
+}
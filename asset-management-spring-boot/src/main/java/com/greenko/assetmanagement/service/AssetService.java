@@ -0,0 +1,168 @@
+package com.greenko.assetmanagement.service;
+
+import com.greenko.assetmanagement.dto.AssetPage;
+import com.greenko.assetmanagement.dto.AssetRequestDto;
+import com.greenko.assetmanagement.dto.AssetResponseDto;
+import com.greenko.assetmanagement.dto.AssetSearchCriteria;
+import com.greenko.assetmanagement.dto.AssetSort;
+import com.greenko.assetmanagement.event.AssetChangeEvent;
+import com.greenko.assetmanagement.event.AssetChangeType;
+import com.greenko.assetmanagement.exception.AssetNotFoundException;
+import com.greenko.assetmanagement.exception.AssetVersionConflictException;
+import com.greenko.assetmanagement.model.AssetStatus;
+import com.greenko.assetmanagement.model.Asset;
+import com.greenko.assetmanagement.repository.AssetRepository;
+import com.greenko.assetmanagement.repository.AssetSearchRepository;
+import com.greenko.assetmanagement.util.AssetEntityDtoUtil;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+public class AssetService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // bounded by size and TTL, see spring.cache.caffeine.spec
+    public static final String ASSET_CACHE = "assets";
+
+    // keep in step with hibernate.jdbc.batch_size so each flush is exactly one JDBC batch
+    public static final int BULK_FLUSH_SIZE = 500;
+
+    private final AssetRepository assetRepo;
+    private final EntityManager entityManager;
+    private final AssetCollectionVersion collectionVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssetChangeLog changeLog;
+
+    public AssetService(AssetRepository assetRepo, EntityManager entityManager, AssetCollectionVersion collectionVersion,
+                        ApplicationEventPublisher eventPublisher, AssetChangeLog changeLog) {
+        this.assetRepo = assetRepo;
+        this.entityManager = entityManager;
+        this.collectionVersion = collectionVersion;
+        this.eventPublisher = eventPublisher;
+        this.changeLog = changeLog;
+    }
+
+    public String collectionEtag() {
+        return collectionVersion.etag();
+    }
+
+    // misses (AssetNotFoundException) are not cached; cached values are immutable DTOs
+    @Cacheable(cacheNames = ASSET_CACHE, key = "#id")
+    @Transactional(readOnly = true)
+    public AssetResponseDto getAsset(String id) {
+        return assetRepo.findResponseById(id).orElseThrow(()->new AssetNotFoundException("Asset with ID:"+id+" Not found"));
+    }
+
+    @CacheEvict(cacheNames = ASSET_CACHE, key = "#asset.assetId")
+    @Transactional
+    public Asset saveAsset(Asset asset) {
+        Asset saved = assetRepo.save(asset);
+        changeLog.record(AssetChangeType.CREATED, saved.getAssetId());
+        collectionVersion.changed();
+        eventPublisher.publishEvent(new AssetChangeEvent(AssetChangeType.CREATED, saved.getAssetId(), saved.getVersion()));
+        return saved;
+    }
+
+    // ids are freshly generated, so there is nothing to evict
+    @Transactional
+    public int saveAssets(Iterator<AssetRequestDto> assetDtos) {
+        int created = 0;
+        while (assetDtos.hasNext()) {
+            Asset asset = assetRepo.save(AssetEntityDtoUtil.toEntity(assetDtos.next()));
+            changeLog.record(AssetChangeType.CREATED, asset.getAssetId());
+            if (++created % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        collectionVersion.changed();
+        // one event per request rather than per row, so a bulk load cannot flood subscriber buffers
+        eventPublisher.publishEvent(AssetChangeEvent.bulk());
+        return created;
+    }
+
+    // returns the new version
+    @CacheEvict(cacheNames = ASSET_CACHE, key = "#id")
+    @Transactional
+    public long updateAsset(String id, long version, AssetRequestDto assetDto) {
+        int updated = assetRepo.updateAsset(id, version, assetDto.assetName(), assetDto.status(), assetDto.health(),
+                assetDto.installedDate(), assetDto.location());
+        return afterUpdate(id, version, updated);
+    }
+
+    @CacheEvict(cacheNames = ASSET_CACHE, key = "#id")
+    @Transactional
+    public long updateStatus(String id, long version, AssetStatus status) {
+        int updated = assetRepo.updateStatus(id, version, status);
+        return afterUpdate(id, version, updated);
+    }
+
+    @CacheEvict(cacheNames = ASSET_CACHE, key = "#id")
+    @Transactional
+    public void deleteAsset(String id) {
+        if (assetRepo.deleteByAssetId(id) > 0) {
+            changeLog.record(AssetChangeType.DELETED, id);
+            collectionVersion.changed();
+            eventPublisher.publishEvent(new AssetChangeEvent(AssetChangeType.DELETED, id, null));
+        }
+    }
+
+    // keyset pagination on assetId: every page is an index range scan, no OFFSET
+    @Transactional(readOnly = true)
+    public AssetPage<AssetResponseDto> getAssetPage(String after, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<AssetResponseDto> assets = after == null
+                ? assetRepo.findFirstPage(Limit.of(pageSize))
+                : assetRepo.findPageAfter(after, Limit.of(pageSize));
+
+        return toPage(assets, AssetSort.ASSET_ID, pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public AssetPage<AssetResponseDto> searchAssets(AssetSearchCriteria criteria, AssetSort sort, String after, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<AssetResponseDto> assets = assetRepo.search(criteria, sort, after, Limit.of(pageSize));
+
+        return toPage(assets, sort, pageSize);
+    }
+
+    // rows are projected DTOs, so nothing accumulates in the persistence context
+    @Transactional(readOnly = true)
+    public void forEachAsset(Consumer<AssetResponseDto> action) {
+        try (Stream<AssetResponseDto> assets = assetRepo.streamAll()) {
+            assets.forEach(action);
+        }
+    }
+
+    // the extra lookup only happens on the failure path, to tell 404 from 412
+    private long afterUpdate(String id, long version, int updated) {
+        if (updated == 0) {
+            if (!assetRepo.existsById(id)) {
+                throw new AssetNotFoundException("Asset with ID:"+id+" Not found");
+            }
+            throw new AssetVersionConflictException("Asset with ID:"+id+" is no longer at version "+version);
+        }
+        changeLog.record(AssetChangeType.UPDATED, id);
+        collectionVersion.changed();
+        eventPublisher.publishEvent(new AssetChangeEvent(AssetChangeType.UPDATED, id, version + 1));
+        return version + 1;
+    }
+
+    private static AssetPage<AssetResponseDto> toPage(List<AssetResponseDto> assets, AssetSort sort, int pageSize) {
+        String nextCursor = assets.size() < pageSize ? null : AssetSearchRepository.cursorOf(assets.getLast(), sort);
+        return new AssetPage<>(assets, nextCursor);
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.greenko.assetmanagement.telemetry.api;
+
+import com.greenko.assetmanagement.exception.PayloadTooLargeException;
+import com.greenko.assetmanagement.telemetry.codec.TelemetryBinaryFormat;
+import com.greenko.assetmanagement.telemetry.dto.AlertNotification;
+import com.greenko.assetmanagement.telemetry.dto.TelemetryIngestResponse;
+import com.greenko.assetmanagement.telemetry.dto.TelemetryReadingDto;
+import com.greenko.assetmanagement.telemetry.dto.TelemetrySeries;
+import com.greenko.assetmanagement.telemetry.model.RollupResolution;
+import com.greenko.assetmanagement.telemetry.service.AlertDispatcher;
+import com.greenko.assetmanagement.telemetry.service.TelemetryRollupService;
+import com.greenko.assetmanagement.telemetry.service.TelemetryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/telemetry")
+public class TelemetryController {
+
+    private final TelemetryService telemetryService;
+
+    private final AlertDispatcher alertDispatcher;
+
+    private final TelemetryRollupService rollupService;
+
+    private final ObjectReader ndjsonReader;
+
+    private final int maxFrameBytes;
+
+    public TelemetryController(TelemetryService telemetryService, AlertDispatcher alertDispatcher,
+                               TelemetryRollupService rollupService, ObjectMapper objectMapper,
+                               @Value("${assets.telemetry.binary.max-frame-size:16MB}") DataSize maxFrameSize) {
+        this.telemetryService = telemetryService;
+        this.alertDispatcher = alertDispatcher;
+        this.rollupService = rollupService;
+        this.ndjsonReader = objectMapper.readerFor(TelemetryReadingDto.class);
+        this.maxFrameBytes = Math.toIntExact(maxFrameSize.toBytes());
+    }
+
+    // 202: the readings are durable in the telemetry log, not yet in the database
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public TelemetryIngestResponse ingest(@RequestBody List<TelemetryReadingDto> readings) throws InterruptedException {
+        return telemetryService.ingest(readings.iterator());
+    }
+
+    // NDJSON is read one line at a time, as for /api/v1/assets/bulk
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public TelemetryIngestResponse ingest(InputStream body) throws InterruptedException {
+        try (MappingIterator<TelemetryReadingDto> readings = ndjsonReader.readValues(body)) {
+            return telemetryService.ingest(readings);
+        }
+    }
+
+    // see TelemetryBinaryFormat; a malformed frame is rejected whole with 400. The frame is verified
+    // before any of it is ingested, so it is buffered, but never past max-frame-size: larger gets 413
+    @PostMapping(value = "/binary", consumes = TelemetryBinaryFormat.MEDIA_TYPE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public TelemetryIngestResponse ingestBinary(InputStream body,
+                                                @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength)
+            throws IOException, InterruptedException {
+        if (contentLength != null && contentLength > maxFrameBytes) {
+            throw frameTooLarge();
+        }
+        // chunked requests carry no length; stop reading one byte past the limit
+        byte[] frame = body.readNBytes(maxFrameBytes + 1);
+        if (frame.length > maxFrameBytes) {
+            throw frameTooLarge();
+        }
+        return telemetryService.ingestBinary(ByteBuffer.wrap(frame));
+    }
+
+    private PayloadTooLargeException frameTooLarge() {
+        return new PayloadTooLargeException("Telemetry frames are limited to " + maxFrameBytes + " bytes");
+    }
+
+    // incidents not yet resolved, one entry per asset and alert type
+    @GetMapping("/alerts")
+    public List<AlertNotification> getOpenAlerts(){
+        return alertDispatcher.openAlerts();
+    }
+
+    // from/to are epoch millis; without a resolution, the finest one that fits the range in maxPoints buckets is used
+    @GetMapping("/{assetId}/rollups")
+    public TelemetrySeries getRollups(@PathVariable String assetId,
+                                      @RequestParam("from") long from,
+                                      @RequestParam("to") long to,
+                                      @RequestParam(value = "maxPoints", defaultValue = "500") int maxPoints,
+                                      @RequestParam(value = "resolution", required = false) RollupResolution resolution){
+        return resolution == null
+                ? rollupService.getSeries(assetId, from, to, maxPoints)
+                : rollupService.getSeries(assetId, from, to, resolution);
+    }
+}
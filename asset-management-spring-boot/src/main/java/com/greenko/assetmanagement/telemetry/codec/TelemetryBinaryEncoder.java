@@ -0,0 +1,93 @@
+package com.greenko.assetmanagement.telemetry.codec;
+
+import com.greenko.assetmanagement.telemetry.dto.TelemetryReadingDto;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// builds TelemetryBinaryFormat frames, for Java clients and benchmarks; readings must be complete
+public final class TelemetryBinaryEncoder {
+
+    private TelemetryBinaryEncoder() {
+    }
+
+    public static byte[] encode(List<TelemetryReadingDto> readings) {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream(readings.size() * 12 + 64);
+        try {
+            DataOutputStream out = new DataOutputStream(frame);
+            out.writeInt(TelemetryBinaryFormat.MAGIC);
+            int from = 0;
+            while (from < readings.size()) {
+                // a block takes readings until its dictionary is full
+                Map<String, Integer> dictionary = new LinkedHashMap<>();
+                int to = from;
+                while (to < readings.size()) {
+                    String assetId = readings.get(to).assetId();
+                    if (!dictionary.containsKey(assetId)) {
+                        if (dictionary.size() == TelemetryBinaryFormat.MAX_ASSETS_PER_BLOCK) {
+                            break;
+                        }
+                        dictionary.put(assetId, dictionary.size());
+                    }
+                    to++;
+                }
+                writeBlock(out, readings.subList(from, to), dictionary);
+                from = to;
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return frame.toByteArray();
+    }
+
+    private static void writeBlock(DataOutputStream frame, List<TelemetryReadingDto> readings,
+                                   Map<String, Integer> dictionary) throws IOException {
+        ByteArrayOutputStream blockBytes = new ByteArrayOutputStream(readings.size() * 12 + 64);
+        DataOutputStream block = new DataOutputStream(blockBytes);
+
+        long timestamp = readings.getFirst().recordedAt();
+        block.writeLong(timestamp);
+
+        Map<String, TelemetryReadingDto> firstReading = new HashMap<>();
+        readings.forEach(reading -> firstReading.putIfAbsent(reading.assetId(), reading));
+        block.writeShort(dictionary.size());
+        for (String assetId : dictionary.keySet()) {
+            byte[] id = assetId.getBytes(StandardCharsets.UTF_8);
+            if (id.length == 0 || id.length > TelemetryBinaryFormat.MAX_ASSET_ID_BYTES) {
+                throw new IllegalArgumentException("Asset id must be 1 to 64 bytes: " + assetId);
+            }
+            block.writeByte(firstReading.get(assetId).type().ordinal());
+            block.writeByte(id.length);
+            block.write(id);
+        }
+
+        block.writeInt(readings.size());
+        for (TelemetryReadingDto reading : readings) {
+            writeVarLong(block, dictionary.get(reading.assetId()));
+            writeVarLong(block, TelemetryBinaryFormat.zigZagEncode(reading.recordedAt() - timestamp));
+            timestamp = reading.recordedAt();
+            block.writeFloat(reading.power().floatValue());
+            block.writeFloat(reading.temperature().floatValue());
+        }
+        block.flush();
+
+        frame.writeInt(blockBytes.size());
+        blockBytes.writeTo(frame);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -0,0 +1,104 @@
+package com.greenko.assetmanagement.telemetry.codec;
+
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary telemetry frames, big-endian:
+ * <pre>
+ * frame   := magic:int32 ("GTL1") block*
+ * block   := length:int32                       bytes in the block after this field
+ *            baseTimestamp:int64                epoch millis
+ *            assetCount:uint16  asset*          the block's asset-id dictionary
+ *            readingCount:int32 reading*
+ * asset   := type:uint8 (AssetType ordinal)  idLength:uint8  id:utf8[idLength]
+ * reading := asset:varint                       index into the block's dictionary
+ *            timestampDelta:zigzag-varint       from the previous reading, the first from baseTimestamp
+ *            power:float32  temperature:float32
+ * </pre>
+ * A typical reading is 10 to 12 bytes, against 100+ as JSON. Values are
+ * single precision.
+ */
+public final class TelemetryBinaryFormat {
+
+    public static final String MEDIA_TYPE = "application/vnd.greenko.telemetry";
+
+    static final int MAGIC = 0x47544C31;
+    static final int MAX_ASSETS_PER_BLOCK = 0xFFFF;
+    static final int MAX_ASSET_ID_BYTES = 64;
+
+    private static final int MIN_READING_BYTES = 10;
+    private static final int ASSET_TYPES = AssetType.values().length;
+
+    private TelemetryBinaryFormat() {
+    }
+
+    /**
+     * Walks the whole frame without decoding ids or values, so a malformed
+     * frame is rejected before any of it is ingested. Leaves the buffer's
+     * position untouched.
+     */
+    static void verify(ByteBuffer frame) {
+        ByteBuffer in = frame.duplicate();
+        require(in.remaining() >= 4 && in.getInt() == MAGIC, "not a telemetry frame");
+        while (in.hasRemaining()) {
+            require(in.remaining() >= 4, "truncated block length");
+            int length = in.getInt();
+            require(length >= 14 && length <= in.remaining(), "block length out of range");
+            int end = in.position() + length;
+
+            in.getLong();
+            int assets = in.getShort() & 0xFFFF;
+            for (int i = 0; i < assets; i++) {
+                require(in.position() + 2 <= end, "truncated asset dictionary");
+                require((in.get() & 0xFF) < ASSET_TYPES, "unknown asset type");
+                int idLength = in.get() & 0xFF;
+                require(idLength > 0 && idLength <= MAX_ASSET_ID_BYTES && in.position() + idLength <= end,
+                        "asset id length out of range");
+                in.position(in.position() + idLength);
+            }
+
+            require(in.position() + 4 <= end, "truncated reading count");
+            int readings = in.getInt();
+            require(readings >= 0 && (long) readings * MIN_READING_BYTES <= end - in.position(),
+                    "reading count out of range");
+            for (int i = 0; i < readings; i++) {
+                long asset = readVarLong(in, end);
+                require(asset >= 0 && asset < assets, "asset index out of range");
+                readVarLong(in, end);
+                require(in.position() + 8 <= end, "truncated reading");
+                in.position(in.position() + 8);
+            }
+            require(in.position() == end, "block length does not match its content");
+        }
+    }
+
+    // unsigned LEB128, at most 10 bytes, not past limit
+    static long readVarLong(ByteBuffer in, int limit) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            require(in.position() < limit, "truncated varint");
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed telemetry frame: varint too long");
+    }
+
+    static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void require(boolean condition, String problem) {
+        if (!condition) {
+            throw new IllegalArgumentException("Malformed telemetry frame: " + problem);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.greenko.assetmanagement.telemetry.codec;
+
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.service.AssetIdDictionary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes a verified frame straight from its buffer into TelemetryBatches.
+ * Only the dictionary at the head of each block allocates; readings go from
+ * the buffer into the batch columns with no intermediate objects. Readings
+ * for assets the dictionary has no room for are skipped and counted.
+ */
+public final class TelemetryBinaryReader {
+
+    private static final AssetType[] TYPES = AssetType.values();
+
+    private final ByteBuffer frame;
+    private final AssetIdDictionary assetIds;
+
+    // current block
+    private int[] assetIndexes = new int[0];
+    private AssetType[] assetTypes = new AssetType[0];
+    private int remaining;
+    private long timestamp;
+    private int skipped;
+
+    // throws IllegalArgumentException for a malformed frame
+    public TelemetryBinaryReader(ByteBuffer frame, AssetIdDictionary assetIds) {
+        TelemetryBinaryFormat.verify(frame);
+        this.frame = frame.duplicate();
+        this.frame.position(this.frame.position() + 4);
+        this.assetIds = assetIds;
+    }
+
+    // fills the batch up to its capacity; returns 0 once the frame is exhausted
+    public int readInto(TelemetryBatch batch) {
+        int added = 0;
+        while (!batch.isFull()) {
+            if (remaining == 0) {
+                if (!frame.hasRemaining()) {
+                    break;
+                }
+                startBlock();
+                continue;
+            }
+            int asset = (int) TelemetryBinaryFormat.readVarLong(frame, frame.limit());
+            timestamp += TelemetryBinaryFormat.zigZagDecode(TelemetryBinaryFormat.readVarLong(frame, frame.limit()));
+            float power = frame.getFloat();
+            float temperature = frame.getFloat();
+            remaining--;
+            if (assetIndexes[asset] == AssetIdDictionary.FULL) {
+                skipped++;
+                continue;
+            }
+            batch.add(assetIndexes[asset], assetTypes[asset], power, temperature, timestamp);
+            added++;
+        }
+        return added;
+    }
+
+    public int skipped() {
+        return skipped;
+    }
+
+    private void startBlock() {
+        frame.getInt(); // length, already checked by verify
+        timestamp = frame.getLong();
+        int assets = frame.getShort() & 0xFFFF;
+        assetIndexes = new int[assets];
+        assetTypes = new AssetType[assets];
+        for (int i = 0; i < assets; i++) {
+            assetTypes[i] = TYPES[frame.get()];
+            int idLength = frame.get() & 0xFF;
+            String assetId = StandardCharsets.UTF_8.decode(frame.slice(frame.position(), idLength)).toString();
+            frame.position(frame.position() + idLength);
+            assetIndexes[i] = assetIds.tryIndexOf(assetId);
+        }
+        remaining = frame.getInt();
+    }
+}
@@ -0,0 +1,23 @@
+package com.greenko.assetmanagement.telemetry.config;
+
+import com.greenko.assetmanagement.telemetry.log.TelemetryLog;
+import com.greenko.assetmanagement.telemetry.repository.TelemetryCheckpointRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class TelemetryLogConfig {
+
+    // a fresh directory continues numbering from the database checkpoint
+    @Bean(destroyMethod = "close")
+    public TelemetryLog telemetryLog(@Value("${assets.telemetry.log.directory:data/telemetry-log}") Path directory,
+                                     @Value("${assets.telemetry.log.segment-size:64MB}") DataSize segmentSize,
+                                     TelemetryCheckpointRepository checkpointRepo) throws IOException {
+        return new TelemetryLog(directory, Math.toIntExact(segmentSize.toBytes()), checkpointRepo.nextSequence());
+    }
+}
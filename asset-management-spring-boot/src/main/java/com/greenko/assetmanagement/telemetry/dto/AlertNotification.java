@@ -0,0 +1,16 @@
+package com.greenko.assetmanagement.telemetry.dto;
+
+import com.greenko.assetmanagement.telemetry.model.AlertStatus;
+import com.greenko.assetmanagement.telemetry.model.AlertType;
+
+// one incident; occurrences counts the raises coalesced into it. Times are epoch millis
+public record AlertNotification(
+        String assetId,
+        AlertType type,
+        AlertStatus status,
+        double lastValue,
+        long openedAt,
+        long lastRaisedAt,
+        int occurrences
+) {
+}
@@ -0,0 +1,14 @@
+package com.greenko.assetmanagement.telemetry.dto;
+
+// bucketStart is epoch millis
+public record RollupPoint(
+        long bucketStart,
+        long samples,
+        double powerMin,
+        double powerMax,
+        double powerAvg,
+        double temperatureMin,
+        double temperatureMax,
+        double temperatureAvg
+) {
+}
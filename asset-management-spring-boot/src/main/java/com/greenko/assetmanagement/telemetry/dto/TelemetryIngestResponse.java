@@ -0,0 +1,4 @@
+package com.greenko.assetmanagement.telemetry.dto;
+
+public record TelemetryIngestResponse(int accepted, int rejected, int alerts) {
+}
@@ -0,0 +1,13 @@
+package com.greenko.assetmanagement.telemetry.dto;
+
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+
+// recordedAt is epoch millis; readings without one are stamped on arrival
+public record TelemetryReadingDto(
+        String assetId,
+        AssetType type,
+        Double power,
+        Double temperature,
+        Long recordedAt
+) {
+}
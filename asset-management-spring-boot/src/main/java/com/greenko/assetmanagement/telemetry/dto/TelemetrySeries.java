@@ -0,0 +1,8 @@
+package com.greenko.assetmanagement.telemetry.dto;
+
+import com.greenko.assetmanagement.telemetry.model.RollupResolution;
+
+import java.util.List;
+
+public record TelemetrySeries(String assetId, RollupResolution resolution, List<RollupPoint> points) {
+}
@@ -0,0 +1,258 @@
+package com.greenko.assetmanagement.telemetry.log;
+
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.service.AssetIdDictionary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only telemetry log in memory-mapped segments. Every record gets a
+ * sequence number. append() copies records into the active segment;
+ * awaitDurable() blocks until a single flusher thread has forced them to
+ * disk. Appends that arrive while a force is running are covered by the next
+ * force together, so concurrent writers share fsyncs (group commit).
+ *
+ * On open, the last segment is scanned for its first empty or torn slot,
+ * which becomes the write position. Everything from there to the end of the
+ * segment is cleared.
+ */
+public class TelemetryLog implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TelemetryLog.class);
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final ConcurrentSkipListMap<Long, TelemetryLogSegment> segments = new ConcurrentSkipListMap<>();
+
+    // guarded by appendLock
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final TelemetryLogRecord appendRecord = new TelemetryLogRecord();
+    private TelemetryLogSegment active;
+    private long nextSequence;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition appended = syncLock.newCondition();
+    private final Condition synced = syncLock.newCondition();
+    private volatile long writtenSequence;
+    private volatile long durableSequence;
+    private volatile boolean closed;
+    private final Thread flusher;
+
+    // initialSequence numbers the first record when the directory holds no segments yet
+    public TelemetryLog(Path directory, int segmentBytes, long initialSequence) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentCapacity = segmentBytes / TelemetryLogRecord.SIZE;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> existing = files
+                    .filter(file -> file.getFileName().toString().matches("telemetry-\\d{20}\\.log"))
+                    .sorted()
+                    .toList();
+            for (Path file : existing) {
+                long base = TelemetryLogSegment.baseSequenceOf(file);
+                segments.put(base, TelemetryLogSegment.open(directory, base, segmentCapacity));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            active = TelemetryLogSegment.open(directory, initialSequence, segmentCapacity);
+            segments.put(initialSequence, active);
+            nextSequence = initialSequence;
+        } else {
+            active = segments.lastEntry().getValue();
+            nextSequence = recover(active);
+        }
+        writtenSequence = nextSequence;
+        durableSequence = nextSequence;
+        log.info("Telemetry log at {}: {} segment(s), next sequence {}", directory, segments.size(), nextSequence);
+
+        flusher = Thread.ofPlatform().name("telemetry-log-flusher").daemon().start(this::flushLoop);
+    }
+
+    /**
+     * Appends every row of the batch and returns the sequence number after the
+     * last one. The records are not durable until awaitDurable() returns for
+     * that number.
+     */
+    public long append(TelemetryBatch batch, AssetIdDictionary assetIds) {
+        appendLock.lock();
+        try {
+            for (int row = 0; row < batch.size(); row++) {
+                if (!active.contains(nextSequence)) {
+                    roll();
+                }
+                appendRecord.encode(assetIds.idOf(batch.assetIndex(row)).getBytes(StandardCharsets.UTF_8),
+                        batch.type(row), batch.power(row), batch.temperature(row), batch.recordedAt(row));
+                active.write(nextSequence, appendRecord.bytes());
+                nextSequence++;
+            }
+            writtenSequence = nextSequence;
+        } finally {
+            appendLock.unlock();
+        }
+
+        syncLock.lock();
+        try {
+            appended.signal();
+        } finally {
+            syncLock.unlock();
+        }
+        return writtenSequence;
+    }
+
+    // ids are stored in a fixed-width field
+    public static boolean fitsAssetId(String assetId) {
+        return assetId.getBytes(StandardCharsets.UTF_8).length <= TelemetryLogRecord.MAX_ASSET_ID_BYTES;
+    }
+
+    public void awaitDurable(long sequence) throws InterruptedException {
+        if (durableSequence >= sequence) {
+            return;
+        }
+        syncLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (closed) {
+                    throw new IllegalStateException("Telemetry log is closed");
+                }
+                synced.await();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public long durableSequence() {
+        return durableSequence;
+    }
+
+    // the oldest record still on disk
+    public long firstSequence() {
+        return segments.firstKey();
+    }
+
+    /**
+     * Decodes durable records starting at fromSequence into the batch, up to
+     * its capacity, resolving asset ids through the dictionary. Returns the
+     * number of records read.
+     */
+    public int read(long fromSequence, TelemetryBatch batch, AssetIdDictionary assetIds) {
+        long end = Math.min(durableSequence, fromSequence + batch.capacity() - batch.size());
+        TelemetryLogRecord record = new TelemetryLogRecord();
+        int read = 0;
+        for (long sequence = fromSequence; sequence < end; sequence++) {
+            Map.Entry<Long, TelemetryLogSegment> entry = segments.floorEntry(sequence);
+            if (entry == null || !entry.getValue().contains(sequence)) {
+                throw new IllegalStateException("Telemetry log has no record " + sequence);
+            }
+            entry.getValue().read(sequence, record.bytes());
+            batch.add(assetIds.indexOf(record.assetId()), record.type(), record.power(), record.temperature(),
+                    record.recordedAt());
+            read++;
+        }
+        return read;
+    }
+
+    // deletes segments holding only records before the sequence; the active segment is kept.
+    // Called by the one reader, and the flusher only forces segments past the durable sequence,
+    // so no other thread can still be using a deleted segment
+    public void truncateBefore(long sequence) {
+        for (TelemetryLogSegment segment : segments.headMap(sequence).values()) {
+            if (segment.endSequence() <= sequence && segment != active) {
+                segments.remove(segment.baseSequence());
+                try {
+                    segment.delete();
+                } catch (IOException e) {
+                    log.warn("Could not delete telemetry log segment {}", segment.baseSequence(), e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        syncLock.lock();
+        try {
+            appended.signal();
+            synced.signalAll();
+        } finally {
+            syncLock.unlock();
+        }
+        flusher.join();
+    }
+
+    private void roll() {
+        active.force();
+        try {
+            active = TelemetryLogSegment.open(directory, nextSequence, segmentCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segments.put(nextSequence, active);
+    }
+
+    private long recover(TelemetryLogSegment segment) {
+        TelemetryLogRecord record = new TelemetryLogRecord();
+        long sequence = segment.baseSequence();
+        while (sequence < segment.endSequence()) {
+            segment.read(sequence, record.bytes());
+            if (!record.isValid()) {
+                break;
+            }
+            sequence++;
+        }
+        segment.clearFrom(sequence);
+        segment.force();
+        return sequence;
+    }
+
+    private void flushLoop() {
+        while (true) {
+            long target;
+            syncLock.lock();
+            try {
+                while (writtenSequence == durableSequence && !closed) {
+                    appended.await(100, TimeUnit.MILLISECONDS);
+                }
+                if (closed && writtenSequence == durableSequence) {
+                    return;
+                }
+                target = writtenSequence;
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                syncLock.unlock();
+            }
+
+            // every segment written to since the last force; usually just the active one
+            long from = durableSequence;
+            for (TelemetryLogSegment segment : segments.values()) {
+                if (segment.endSequence() > from && segment.baseSequence() < target) {
+                    segment.force();
+                }
+            }
+
+            syncLock.lock();
+            try {
+                durableSequence = target;
+                synced.signalAll();
+            } finally {
+                syncLock.unlock();
+            }
+        }
+    }
+}
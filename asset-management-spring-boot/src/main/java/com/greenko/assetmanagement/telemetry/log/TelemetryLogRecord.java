@@ -0,0 +1,84 @@
+package com.greenko.assetmanagement.telemetry.log;
+
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Fixed-width record layout, 96 bytes:
+ * <pre>
+ *  0  int    CRC32C of bytes 4..95
+ *  4  byte   asset type ordinal + 1 (0 marks an empty slot)
+ *  5  byte   asset id length in bytes
+ *  8  long   recordedAt, epoch millis
+ * 16  double power
+ * 24  double temperature
+ * 32  64     asset id, UTF-8, zero padded
+ * </pre>
+ * A codec instance reuses its scratch buffers and is confined to one thread.
+ */
+final class TelemetryLogRecord {
+
+    static final int SIZE = 96;
+    static final int MAX_ASSET_ID_BYTES = 64;
+
+    private static final AssetType[] TYPES = AssetType.values();
+    private static final int ID_OFFSET = 32;
+
+    private final byte[] bytes = new byte[SIZE];
+    private final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    private final CRC32C crc = new CRC32C();
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    void encode(byte[] assetId, AssetType type, double power, double temperature, long recordedAt) {
+        if (assetId.length > MAX_ASSET_ID_BYTES) {
+            throw new IllegalArgumentException("Asset id longer than " + MAX_ASSET_ID_BYTES + " bytes");
+        }
+        buffer.put(4, (byte) (type.ordinal() + 1));
+        buffer.put(5, (byte) assetId.length);
+        buffer.putShort(6, (short) 0);
+        buffer.putLong(8, recordedAt);
+        buffer.putDouble(16, power);
+        buffer.putDouble(24, temperature);
+        buffer.put(ID_OFFSET, assetId, 0, assetId.length);
+        Arrays.fill(bytes, ID_OFFSET + assetId.length, SIZE, (byte) 0);
+        buffer.putInt(0, checksum());
+    }
+
+    // false for an empty slot or a torn write
+    boolean isValid() {
+        return bytes[4] != 0 && buffer.getInt(0) == checksum();
+    }
+
+    String assetId() {
+        return new String(bytes, ID_OFFSET, bytes[5] & 0xff, StandardCharsets.UTF_8);
+    }
+
+    AssetType type() {
+        return TYPES[bytes[4] - 1];
+    }
+
+    long recordedAt() {
+        return buffer.getLong(8);
+    }
+
+    double power() {
+        return buffer.getDouble(16);
+    }
+
+    double temperature() {
+        return buffer.getDouble(24);
+    }
+
+    private int checksum() {
+        crc.reset();
+        crc.update(bytes, 4, SIZE - 4);
+        return (int) crc.getValue();
+    }
+}
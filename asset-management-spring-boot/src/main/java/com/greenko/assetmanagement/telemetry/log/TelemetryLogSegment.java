@@ -0,0 +1,125 @@
+package com.greenko.assetmanagement.telemetry.log;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One fixed-size, memory-mapped file of the telemetry log, named after the
+ * sequence number of its first record. Record slots are addressed absolutely,
+ * so readers and the single appender never share a buffer position.
+ */
+final class TelemetryLogSegment {
+
+    // sun.misc.Unsafe.invokeCleaner, null where it is not available
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    private final long baseSequence;
+    private final int capacity;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+
+    private TelemetryLogSegment(long baseSequence, int capacity, Path path, MappedByteBuffer buffer) {
+        this.baseSequence = baseSequence;
+        this.capacity = capacity;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static TelemetryLogSegment open(Path directory, long baseSequence, int capacity) throws IOException {
+        Path path = directory.resolve(fileName(baseSequence));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    (long) capacity * TelemetryLogRecord.SIZE);
+            return new TelemetryLogSegment(baseSequence, capacity, path, buffer);
+        }
+    }
+
+    static String fileName(long baseSequence) {
+        return String.format("telemetry-%020d.log", baseSequence);
+    }
+
+    static long baseSequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring("telemetry-".length(), name.length() - ".log".length()));
+    }
+
+    long baseSequence() {
+        return baseSequence;
+    }
+
+    // one past the last sequence this segment can hold
+    long endSequence() {
+        return baseSequence + capacity;
+    }
+
+    boolean contains(long sequence) {
+        return sequence >= baseSequence && sequence < endSequence();
+    }
+
+    void write(long sequence, byte[] record) {
+        buffer.put(offsetOf(sequence), record, 0, TelemetryLogRecord.SIZE);
+    }
+
+    void read(long sequence, byte[] record) {
+        buffer.get(offsetOf(sequence), record, 0, TelemetryLogRecord.SIZE);
+    }
+
+    // zeroes every slot from sequence on, so stale records past a torn tail can never be replayed
+    void clearFrom(long sequence) {
+        byte[] zeros = new byte[TelemetryLogRecord.SIZE];
+        for (long s = sequence; s < endSequence(); s++) {
+            write(s, zeros);
+        }
+    }
+
+    // msync: only the dirty pages are written
+    void force() {
+        buffer.force();
+    }
+
+    // the mapping is released first, so the space is freed now rather than at some later GC.
+    // The segment must be unreachable for every other thread: touching it afterwards crashes the JVM
+    void delete() throws IOException {
+        release();
+        Files.deleteIfExists(path);
+    }
+
+    private void release() {
+        if (INVOKE_CLEANER == null) {
+            return; // unmapped once the buffer is collected
+        }
+        try {
+            INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not unmap telemetry log segment " + path, e);
+        }
+    }
+
+    private static MethodHandle invokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private int offsetOf(long sequence) {
+        return (int) (sequence - baseSequence) * TelemetryLogRecord.SIZE;
+    }
+}
@@ -0,0 +1,10 @@
+package com.greenko.assetmanagement.telemetry.model;
+
+public enum AlertType {
+    // fixed limits
+    HIGH_TEMPERATURE,
+    LOW_POWER,
+    // sustained deviation from the asset's own baseline
+    TEMPERATURE_ANOMALY,
+    POWER_ANOMALY
+}
@@ -0,0 +1,6 @@
+package com.greenko.assetmanagement.telemetry.model;
+
+public enum AssetType {
+    TURBINE,
+    SOLAR_PANEL
+}
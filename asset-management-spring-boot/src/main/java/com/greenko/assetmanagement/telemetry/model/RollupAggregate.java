@@ -0,0 +1,51 @@
+package com.greenko.assetmanagement.telemetry.model;
+
+// running min/max/sum for one asset and bucket; not thread-safe
+public final class RollupAggregate {
+
+    private long count;
+    private double powerMin = Double.POSITIVE_INFINITY;
+    private double powerMax = Double.NEGATIVE_INFINITY;
+    private double powerSum;
+    private double temperatureMin = Double.POSITIVE_INFINITY;
+    private double temperatureMax = Double.NEGATIVE_INFINITY;
+    private double temperatureSum;
+
+    public void add(double power, double temperature) {
+        count++;
+        powerMin = Math.min(powerMin, power);
+        powerMax = Math.max(powerMax, power);
+        powerSum += power;
+        temperatureMin = Math.min(temperatureMin, temperature);
+        temperatureMax = Math.max(temperatureMax, temperature);
+        temperatureSum += temperature;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double powerMin() {
+        return powerMin;
+    }
+
+    public double powerMax() {
+        return powerMax;
+    }
+
+    public double powerSum() {
+        return powerSum;
+    }
+
+    public double temperatureMin() {
+        return temperatureMin;
+    }
+
+    public double temperatureMax() {
+        return temperatureMax;
+    }
+
+    public double temperatureSum() {
+        return temperatureSum;
+    }
+}
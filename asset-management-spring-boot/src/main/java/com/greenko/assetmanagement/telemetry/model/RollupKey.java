@@ -0,0 +1,4 @@
+package com.greenko.assetmanagement.telemetry.model;
+
+public record RollupKey(RollupResolution resolution, int assetIndex, long bucketStart) {
+}
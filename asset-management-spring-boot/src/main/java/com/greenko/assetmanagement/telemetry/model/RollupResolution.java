@@ -0,0 +1,30 @@
+package com.greenko.assetmanagement.telemetry.model;
+
+import java.time.Duration;
+
+// finest first
+public enum RollupResolution {
+    MINUTE("telemetry_rollup_1m", Duration.ofMinutes(1)),
+    HOUR("telemetry_rollup_1h", Duration.ofHours(1)),
+    DAY("telemetry_rollup_1d", Duration.ofDays(1));
+
+    private final String table;
+    private final long bucketMillis;
+
+    RollupResolution(String table, Duration bucket) {
+        this.table = table;
+        this.bucketMillis = bucket.toMillis();
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public long bucketMillis() {
+        return bucketMillis;
+    }
+
+    public long bucketOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, bucketMillis) * bucketMillis;
+    }
+}
@@ -0,0 +1,93 @@
+package com.greenko.assetmanagement.telemetry.model;
+
+/**
+ * A reusable, fixed-capacity block of readings stored column by column. Asset
+ * ids are dictionary indexes (see AssetIdDictionary), so a batch holds no
+ * object references and filling or scanning it allocates nothing.
+ */
+public final class TelemetryBatch {
+
+    private static final AssetType[] TYPES = AssetType.values();
+
+    private final int[] assetIndex;
+    private final byte[] type;
+    private final double[] power;
+    private final double[] temperature;
+    private final long[] recordedAt;
+    private int size;
+
+    public TelemetryBatch(int capacity) {
+        assetIndex = new int[capacity];
+        type = new byte[capacity];
+        power = new double[capacity];
+        temperature = new double[capacity];
+        recordedAt = new long[capacity];
+    }
+
+    // returns false when the batch is full
+    public boolean add(int assetIndex, AssetType type, double power, double temperature, long recordedAt) {
+        if (size == this.assetIndex.length) {
+            return false;
+        }
+        this.assetIndex[size] = assetIndex;
+        this.type[size] = (byte) type.ordinal();
+        this.power[size] = power;
+        this.temperature[size] = temperature;
+        this.recordedAt[size] = recordedAt;
+        size++;
+        return true;
+    }
+
+    public int assetIndex(int row) {
+        return assetIndex[row];
+    }
+
+    public AssetType type(int row) {
+        return TYPES[type[row]];
+    }
+
+    public double power(int row) {
+        return power[row];
+    }
+
+    public double temperature(int row) {
+        return temperature[row];
+    }
+
+    public long recordedAt(int row) {
+        return recordedAt[row];
+    }
+
+    // used to compact the batch in place after filtering rows out
+    public void moveRow(int from, int to) {
+        assetIndex[to] = assetIndex[from];
+        type[to] = type[from];
+        power[to] = power[from];
+        temperature[to] = temperature[from];
+        recordedAt[to] = recordedAt[from];
+    }
+
+    public void truncate(int newSize) {
+        size = Math.min(size, newSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return assetIndex.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == assetIndex.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,22 @@
+package com.greenko.assetmanagement.telemetry.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TelemetryCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TelemetryCheckpointRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long nextSequence() {
+        return jdbcTemplate.queryForObject("select next_sequence from telemetry_log_checkpoint where id = 1", Long.class);
+    }
+
+    public void advanceTo(long nextSequence) {
+        jdbcTemplate.update("update telemetry_log_checkpoint set next_sequence = ? where id = 1", nextSequence);
+    }
+}
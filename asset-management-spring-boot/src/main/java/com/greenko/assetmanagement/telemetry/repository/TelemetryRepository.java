@@ -0,0 +1,70 @@
+package com.greenko.assetmanagement.telemetry.repository;
+
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.service.AssetIdDictionary;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+// plain JDBC: readings are insert-only and never loaded as entities
+@Repository
+public class TelemetryRepository {
+
+    private static final String INSERT_READING = """
+            insert into telemetry_reading (asset_id, asset_type, power, temperature, recorded_at)
+            values (?, ?, ?, ?, ?)""";
+
+    private static final String SELECT_PARTITIONS = """
+            select partition_name from information_schema.partitions
+            where table_schema = database() and table_name = 'telemetry_reading' and partition_name is not null""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TelemetryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // one JDBC batch per call; with rewriteBatchedStatements MySQL gets a single multi-row insert
+    public void insertBatch(TelemetryBatch batch, AssetIdDictionary assetIds) {
+        jdbcTemplate.batchUpdate(INSERT_READING, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int row) throws SQLException {
+                ps.setString(1, assetIds.idOf(batch.assetIndex(row)));
+                ps.setString(2, batch.type(row).name());
+                ps.setDouble(3, batch.power(row));
+                ps.setDouble(4, batch.temperature(row));
+                ps.setLong(5, batch.recordedAt(row));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size();
+            }
+        });
+    }
+
+    public int deleteOlderThan(long cutoff) {
+        return jdbcTemplate.update("delete from telemetry_reading where recorded_at < ?", cutoff);
+    }
+
+    // MySQL only: the table is range partitioned by day on recorded_at
+
+    public List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(SELECT_PARTITIONS, String.class);
+    }
+
+    // splits the catch-all partition, so only rows already stamped in the future are moved
+    public void addPartition(String name, long upperBound) {
+        jdbcTemplate.execute("alter table telemetry_reading reorganize partition p_future into ("
+                + "partition " + name + " values less than (" + upperBound + "), "
+                + "partition p_future values less than maxvalue)");
+    }
+
+    public void dropPartition(String name) {
+        jdbcTemplate.execute("alter table telemetry_reading drop partition " + name);
+    }
+}
@@ -0,0 +1,105 @@
+package com.greenko.assetmanagement.telemetry.repository;
+
+import com.greenko.assetmanagement.telemetry.dto.RollupPoint;
+import com.greenko.assetmanagement.telemetry.model.RollupAggregate;
+import com.greenko.assetmanagement.telemetry.model.RollupKey;
+import com.greenko.assetmanagement.telemetry.model.RollupResolution;
+import com.greenko.assetmanagement.telemetry.service.AssetIdDictionary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class TelemetryRollupRepository {
+
+    // values are merged into an existing bucket: counts and sums add up, min/max combine
+    private static final String MYSQL_UPSERT = """
+            insert into %1$s (asset_id, bucket_start, sample_count, power_min, power_max, power_sum,
+                              temperature_min, temperature_max, temperature_sum)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?) as v
+            on duplicate key update
+                sample_count = %1$s.sample_count + v.sample_count,
+                power_min = least(%1$s.power_min, v.power_min),
+                power_max = greatest(%1$s.power_max, v.power_max),
+                power_sum = %1$s.power_sum + v.power_sum,
+                temperature_min = least(%1$s.temperature_min, v.temperature_min),
+                temperature_max = greatest(%1$s.temperature_max, v.temperature_max),
+                temperature_sum = %1$s.temperature_sum + v.temperature_sum""";
+
+    private static final String STANDARD_UPSERT = """
+            merge into %1$s r
+            using (select cast(? as varchar(64)) asset_id, cast(? as bigint) bucket_start, cast(? as bigint) sample_count,
+                          cast(? as double) power_min, cast(? as double) power_max, cast(? as double) power_sum,
+                          cast(? as double) temperature_min, cast(? as double) temperature_max,
+                          cast(? as double) temperature_sum) v
+            on r.asset_id = v.asset_id and r.bucket_start = v.bucket_start
+            when matched then update set
+                sample_count = r.sample_count + v.sample_count,
+                power_min = least(r.power_min, v.power_min),
+                power_max = greatest(r.power_max, v.power_max),
+                power_sum = r.power_sum + v.power_sum,
+                temperature_min = least(r.temperature_min, v.temperature_min),
+                temperature_max = greatest(r.temperature_max, v.temperature_max),
+                temperature_sum = r.temperature_sum + v.temperature_sum
+            when not matched then insert (asset_id, bucket_start, sample_count, power_min, power_max, power_sum,
+                                          temperature_min, temperature_max, temperature_sum)
+                values (v.asset_id, v.bucket_start, v.sample_count, v.power_min, v.power_max, v.power_sum,
+                        v.temperature_min, v.temperature_max, v.temperature_sum)""";
+
+    private static final String SELECT_SERIES = """
+            select bucket_start, sample_count, power_min, power_max, power_sum,
+                   temperature_min, temperature_max, temperature_sum
+            from %s
+            where asset_id = ? and bucket_start >= ? and bucket_start < ?
+            order by bucket_start""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String upsert;
+
+    public TelemetryRollupRepository(JdbcTemplate jdbcTemplate) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        String product = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+        this.upsert = "MySQL".equals(JdbcUtils.commonDatabaseName(product)) ? MYSQL_UPSERT : STANDARD_UPSERT;
+    }
+
+    // all buckets must be of the given resolution; one JDBC batch per call
+    public void merge(RollupResolution resolution, List<Map.Entry<RollupKey, RollupAggregate>> buckets,
+                      AssetIdDictionary assetIds) {
+        jdbcTemplate.batchUpdate(upsert.formatted(resolution.table()), buckets, buckets.size(), (ps, bucket) -> {
+            RollupAggregate aggregate = bucket.getValue();
+            ps.setString(1, assetIds.idOf(bucket.getKey().assetIndex()));
+            ps.setLong(2, bucket.getKey().bucketStart());
+            ps.setLong(3, aggregate.count());
+            ps.setDouble(4, aggregate.powerMin());
+            ps.setDouble(5, aggregate.powerMax());
+            ps.setDouble(6, aggregate.powerSum());
+            ps.setDouble(7, aggregate.temperatureMin());
+            ps.setDouble(8, aggregate.temperatureMax());
+            ps.setDouble(9, aggregate.temperatureSum());
+        });
+    }
+
+    public List<RollupPoint> findSeries(RollupResolution resolution, String assetId, long from, long to) {
+        return jdbcTemplate.query(SELECT_SERIES.formatted(resolution.table()), (rs, row) -> {
+            long samples = rs.getLong("sample_count");
+            return new RollupPoint(
+                    rs.getLong("bucket_start"),
+                    samples,
+                    rs.getDouble("power_min"),
+                    rs.getDouble("power_max"),
+                    rs.getDouble("power_sum") / samples,
+                    rs.getDouble("temperature_min"),
+                    rs.getDouble("temperature_max"),
+                    rs.getDouble("temperature_sum") / samples);
+        }, assetId, from, to);
+    }
+
+    public int deleteOlderThan(RollupResolution resolution, long cutoff) {
+        return jdbcTemplate.update("delete from " + resolution.table() + " where bucket_start < ?", cutoff);
+    }
+}
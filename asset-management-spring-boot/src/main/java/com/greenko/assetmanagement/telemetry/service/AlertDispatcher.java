@@ -0,0 +1,223 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.dto.AlertNotification;
+import com.greenko.assetmanagement.telemetry.model.AlertStatus;
+import com.greenko.assetmanagement.telemetry.model.AlertType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Turns raised and resolved alerts into incident notifications. Alerts are
+ * keyed by (asset, alert type): raising an alert that is already open only
+ * bumps its occurrence count, and a resolution is held for the suppression
+ * window so an alert that re-fires within it continues the same incident.
+ * Each incident therefore produces one OPEN and one RESOLVED notification,
+ * however many readings it spans. Notifications are queued and handed to the
+ * AlertNotifiers in batches, at most maxPerFlush per flush. The queue holds at
+ * most maxPending notifications; beyond that they are dropped, and the next
+ * flush reports how many in one summary instead. The incidents themselves are
+ * kept either way, so openAlerts() still lists them.
+ */
+@Component
+public class AlertDispatcher implements TelemetryAlertListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AlertDispatcher.class);
+
+    private static final int STRIPES = 64;
+    private static final AlertType[] ALERT_TYPES = AlertType.values();
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final BlockingQueue<AlertNotification> pending;
+    private final AtomicInteger droppedSinceFlush = new AtomicInteger();
+
+    private final AssetIdDictionary assetIds;
+    private final List<AlertNotifier> notifiers;
+    private final long suppressionMillis;
+    private final int maxPerFlush;
+
+    private final Counter raised;
+    private final Counter coalesced;
+    private final Counter notified;
+    private final Counter dropped;
+
+    public AlertDispatcher(AssetIdDictionary assetIds,
+                           List<AlertNotifier> notifiers,
+                           MeterRegistry meterRegistry,
+                           @Value("${assets.telemetry.alerts.suppression-window:15m}") Duration suppressionWindow,
+                           @Value("${assets.telemetry.alerts.max-per-flush:500}") int maxPerFlush,
+                           @Value("${assets.telemetry.alerts.max-pending:10000}") int maxPending) {
+        this.assetIds = assetIds;
+        this.notifiers = notifiers;
+        this.suppressionMillis = suppressionWindow.toMillis();
+        this.maxPerFlush = maxPerFlush;
+        this.pending = new ArrayBlockingQueue<>(maxPending);
+        this.raised = meterRegistry.counter("telemetry.alerts.raised");
+        this.coalesced = meterRegistry.counter("telemetry.alerts.coalesced");
+        this.notified = meterRegistry.counter("telemetry.alerts.notified");
+        this.dropped = meterRegistry.counter("telemetry.alerts.dropped");
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public void onAlert(int assetIndex, AlertType type, double value, long recordedAt) {
+        raised.increment();
+        long now = System.currentTimeMillis();
+        long key = keyOf(assetIndex, type);
+        Stripe stripe = stripeOf(key);
+
+        stripe.lock.lock();
+        try {
+            Incident incident = stripe.incidents.get(key);
+            if (incident == null) {
+                incident = new Incident(now);
+                stripe.incidents.put(key, incident);
+                incident.raise(value, now);
+                enqueue(toNotification(key, incident, AlertStatus.OPEN));
+            } else {
+                // still open, or resolved too recently to count as a new incident
+                incident.raise(value, now);
+                incident.resolvedAt = 0;
+                coalesced.increment();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void onResolved(int assetIndex, AlertType type, long recordedAt) {
+        long key = keyOf(assetIndex, type);
+        Stripe stripe = stripeOf(key);
+
+        stripe.lock.lock();
+        try {
+            Incident incident = stripe.incidents.get(key);
+            if (incident != null && incident.resolvedAt == 0) {
+                incident.resolvedAt = System.currentTimeMillis();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public List<AlertNotification> openAlerts() {
+        List<AlertNotification> open = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.incidents.forEach((key, incident) -> {
+                    if (incident.resolvedAt == 0) {
+                        open.add(toNotification(key, incident, AlertStatus.OPEN));
+                    }
+                });
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return open;
+    }
+
+    // closes incidents whose resolution outlived the suppression window, then sends one batch
+    @Scheduled(fixedDelayString = "${assets.telemetry.alerts.flush-interval:10s}")
+    public void flush() {
+        long cutoff = System.currentTimeMillis() - suppressionMillis;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                Iterator<Map.Entry<Long, Incident>> entries = stripe.incidents.entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<Long, Incident> entry = entries.next();
+                    Incident incident = entry.getValue();
+                    if (incident.resolvedAt != 0 && incident.resolvedAt <= cutoff) {
+                        enqueue(toNotification(entry.getKey(), incident, AlertStatus.RESOLVED));
+                        entries.remove();
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        List<AlertNotification> batch = new ArrayList<>();
+        pending.drainTo(batch, maxPerFlush);
+        int droppedCount = droppedSinceFlush.getAndSet(0);
+        if (batch.isEmpty() && droppedCount == 0) {
+            return;
+        }
+        for (AlertNotifier notifier : notifiers) {
+            try {
+                if (!batch.isEmpty()) {
+                    notifier.send(batch);
+                }
+                if (droppedCount > 0) {
+                    notifier.sendDropped(droppedCount);
+                }
+            } catch (RuntimeException e) {
+                log.error("Alert notifier {} failed", notifier.getClass().getSimpleName(), e);
+            }
+        }
+        notified.increment(batch.size());
+    }
+
+    private void enqueue(AlertNotification notification) {
+        if (!pending.offer(notification)) {
+            droppedSinceFlush.incrementAndGet();
+            dropped.increment();
+        }
+    }
+
+    private Stripe stripeOf(long key) {
+        return stripes[(int) (key >>> 8) & (STRIPES - 1)];
+    }
+
+    private static long keyOf(int assetIndex, AlertType type) {
+        return ((long) assetIndex << 8) | type.ordinal();
+    }
+
+    private AlertNotification toNotification(long key, Incident incident, AlertStatus status) {
+        return new AlertNotification(assetIds.idOf((int) (key >>> 8)), ALERT_TYPES[(int) (key & 0xff)], status,
+                incident.lastValue, incident.openedAt, incident.lastRaisedAt, incident.occurrences);
+    }
+
+    private static final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<Long, Incident> incidents = new HashMap<>();
+    }
+
+    // guarded by its stripe's lock
+    private static final class Incident {
+        final long openedAt;
+        long lastRaisedAt;
+        long resolvedAt; // 0 while open
+        double lastValue;
+        int occurrences;
+
+        Incident(long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        void raise(double value, long at) {
+            lastValue = value;
+            lastRaisedAt = at;
+            occurrences++;
+        }
+    }
+}
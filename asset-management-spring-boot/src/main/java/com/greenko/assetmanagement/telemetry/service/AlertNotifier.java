@@ -0,0 +1,14 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.dto.AlertNotification;
+
+import java.util.List;
+
+// a delivery channel (log, mail, webhook); AlertDispatcher hands every flush to each AlertNotifier bean
+public interface AlertNotifier {
+    void send(List<AlertNotification> notifications);
+
+    // summary for notifications that did not fit AlertDispatcher's queue since the previous flush
+    default void sendDropped(int count) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps telemetry asset ids to dense ints for the lifetime of the process, so
+ * batches and per-asset state can be plain arrays indexed by asset. Lookups of
+ * known ids are lock-free; only the first sighting of an id takes the lock.
+ *
+ * Indexes are never reused, so the dictionary cannot evict; instead it holds
+ * at most maxAssets ids, and ids first seen after that are refused. The bound
+ * also keeps every index inside TelemetryAnomalyDetector's state pages.
+ */
+@Component
+public class AssetIdDictionary {
+
+    public static final int FULL = -1;
+
+    private final ConcurrentHashMap<String, Integer> indexes = new ConcurrentHashMap<>();
+    private final int maxAssets;
+    private volatile String[] ids = new String[1024];
+    private int size; // guarded by this
+
+    public AssetIdDictionary(@Value("${assets.telemetry.max-assets:1000000}") int maxAssets) {
+        if (maxAssets <= 0 || maxAssets > TelemetryAnomalyDetector.MAX_ASSETS) {
+            throw new IllegalArgumentException("assets.telemetry.max-assets must be between 1 and "
+                    + TelemetryAnomalyDetector.MAX_ASSETS + ": " + maxAssets);
+        }
+        this.maxAssets = maxAssets;
+    }
+
+    // throws IllegalArgumentException when the id is new and the dictionary is full
+    public int indexOf(String assetId) {
+        int index = tryIndexOf(assetId);
+        if (index == FULL) {
+            throw new IllegalArgumentException("Telemetry is limited to " + maxAssets + " assets; "
+                    + assetId + " is not one of them");
+        }
+        return index;
+    }
+
+    // FULL when the id is new and the dictionary is full
+    public int tryIndexOf(String assetId) {
+        Integer index = indexes.get(assetId);
+        return index != null ? index : register(assetId);
+    }
+
+    // valid for any index handed out by indexOf
+    public String idOf(int index) {
+        return ids[index];
+    }
+
+    public int size() {
+        return indexes.size();
+    }
+
+    private synchronized int register(String assetId) {
+        Integer existing = indexes.get(assetId);
+        if (existing != null) {
+            return existing;
+        }
+        if (size == maxAssets) {
+            return FULL;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.min(size * 2, maxAssets));
+        }
+        ids[size] = assetId;
+        // published after the array slot, so whoever sees the index can resolve it
+        indexes.put(assetId, size);
+        return size++;
+    }
+}
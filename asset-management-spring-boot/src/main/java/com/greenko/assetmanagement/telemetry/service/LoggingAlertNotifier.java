@@ -0,0 +1,28 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.dto.AlertNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class LoggingAlertNotifier implements AlertNotifier {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingAlertNotifier.class);
+
+    @Override
+    public void send(List<AlertNotification> notifications) {
+        log.warn("{} alert notifications", notifications.size());
+        for (AlertNotification notification : notifications) {
+            log.warn("{} {} for {}: last value {} ({} occurrences)", notification.status(), notification.type(),
+                    notification.assetId(), notification.lastValue(), notification.occurrences());
+        }
+    }
+
+    @Override
+    public void sendDropped(int count) {
+        log.warn("{} further alert notifications dropped; GET /api/v1/telemetry/alerts lists the open incidents", count);
+    }
+}
@@ -0,0 +1,13 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.model.AlertType;
+
+// primitive arguments, so raising an alert from a batch scan allocates nothing
+@FunctionalInterface
+public interface TelemetryAlertListener {
+
+    void onAlert(int assetIndex, AlertType type, double value, long recordedAt);
+
+    default void onResolved(int assetIndex, AlertType type, long recordedAt) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.model.AlertType;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-asset streaming baseline for power and temperature: a time-decayed EWMA
+ * of mean and variance, with the z-score of each reading taken against it. A
+ * reading deviates when it breaks a fixed limit or its |z| exceeds the
+ * threshold; an alert is raised once per episode, and only after the asset
+ * has been deviating for the whole sustain window. One normal reading ends
+ * the episode and resolves its alert. Once warm, deviating readings are not
+ * folded into the baseline, so a sustained shift cannot drag the baseline
+ * after it and talk itself out of alerting; only a deviation that outlasts
+ * the baseline window is accepted as the new normal and folded in again.
+ *
+ * The baseline stands in for a ring buffer of each asset's readings over the
+ * window: the window is the EWMA's decay time constant rather than a span of
+ * readings kept, so memory does not grow with the reading rate and a
+ * reading costs O(1) instead of a pass over the window. The trade is that
+ * old readings fade out gradually instead of leaving the window at a fixed
+ * age.
+ *
+ * State is a fixed 64 bytes per asset (lastAt and samples, and per metric
+ * mean, variance, deviatingSince, deviating and alerted), kept in pages of
+ * parallel arrays indexed by AssetIdDictionary index. A page covers 4096
+ * assets, 256 KiB, and is allocated on first use, so the default limit of a
+ * million assets bounds the detector at 64 MB, with no per-reading
+ * allocation.
+ */
+@Component
+public class TelemetryAnomalyDetector {
+
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int MAX_PAGES = 4096;
+    // AssetIdDictionary never hands out an index at or above this
+    static final int MAX_ASSETS = MAX_PAGES * PAGE_SIZE;
+    private static final int LOCK_STRIPES = 256;
+
+    // keeps z finite for assets whose readings have been constant so far
+    private static final double MIN_STD_DEV = 0.01;
+
+    private static final AlertType[] ALERT_TYPES = AlertType.values();
+
+    private final AtomicReferenceArray<Page> pages = new AtomicReferenceArray<>(MAX_PAGES);
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final double zThreshold;
+    private final double baselineMillis;
+    private final long sustainMillis;
+    private final int warmupSamples;
+
+    public TelemetryAnomalyDetector(@Value("${assets.telemetry.anomaly.z-threshold:3}") double zThreshold,
+                                    @Value("${assets.telemetry.anomaly.baseline-window:10m}") Duration baselineWindow,
+                                    @Value("${assets.telemetry.anomaly.sustain-for:60s}") Duration sustainFor,
+                                    @Value("${assets.telemetry.anomaly.warmup-samples:30}") int warmupSamples) {
+        this.zThreshold = zThreshold;
+        this.baselineMillis = baselineWindow.toMillis();
+        this.sustainMillis = sustainFor.toMillis();
+        this.warmupSamples = warmupSamples;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // returns the number of alerts raised
+    public int observe(TelemetryBatch batch, TelemetryAlertListener listener) {
+        int raised = 0;
+        for (int row = 0; row < batch.size(); row++) {
+            int asset = batch.assetIndex(row);
+            Page page = page(asset);
+            int slot = asset & (PAGE_SIZE - 1);
+            long at = batch.recordedAt(row);
+
+            ReentrantLock lock = locks[asset & (LOCK_STRIPES - 1)];
+            lock.lock();
+            try {
+                double alpha = page.alpha(slot, at);
+                boolean warm = page.samples[slot] >= warmupSamples;
+
+                double temperature = batch.temperature(row);
+                raised += page.temperature.update(asset, slot, temperature, alpha, at, warm,
+                        temperature > TelemetryBatchProcessor.HIGH_TEMPERATURE_THRESHOLD,
+                        AlertType.HIGH_TEMPERATURE, AlertType.TEMPERATURE_ANOMALY, listener);
+
+                double power = batch.power(row);
+                raised += page.power.update(asset, slot, power, alpha, at, warm,
+                        power < TelemetryBatchProcessor.LOW_POWER_THRESHOLD,
+                        AlertType.LOW_POWER, AlertType.POWER_ANOMALY, listener);
+
+                page.samples[slot]++;
+                page.lastAt[slot] = Math.max(page.lastAt[slot], at);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return raised;
+    }
+
+    private Page page(int asset) {
+        int index = asset >>> PAGE_BITS;
+        Page page = pages.get(index);
+        if (page == null) {
+            pages.compareAndSet(index, null, new Page());
+            page = pages.get(index);
+        }
+        return page;
+    }
+
+    private final class Page {
+        final long[] lastAt = new long[PAGE_SIZE];
+        final int[] samples = new int[PAGE_SIZE];
+        final MetricState temperature = new MetricState();
+        final MetricState power = new MetricState();
+
+        // 1/n while warming up, then decay by elapsed time; out-of-order readings carry little weight
+        double alpha(int slot, long at) {
+            int n = samples[slot];
+            if (n == 0) {
+                return 1;
+            }
+            double cumulative = 1.0 / (n + 1);
+            double elapsed = Math.max(0, at - lastAt[slot]);
+            double decay = 1 - Math.exp(-elapsed / baselineMillis);
+            return Math.max(cumulative, decay);
+        }
+    }
+
+    private final class MetricState {
+        final double[] mean = new double[PAGE_SIZE];
+        final double[] variance = new double[PAGE_SIZE];
+        final long[] deviatingSince = new long[PAGE_SIZE];
+        final boolean[] deviating = new boolean[PAGE_SIZE];
+        // ordinal + 1 of the alert raised in the current episode, 0 when none
+        final byte[] alerted = new byte[PAGE_SIZE];
+
+        // z is taken against the baseline before this reading is folded in; returns 1 when an alert was raised
+        int update(int asset, int slot, double value, double alpha, long at, boolean warm, boolean breachesLimit,
+                   AlertType limitType, AlertType anomalyType, TelemetryAlertListener listener) {
+            double diff = value - mean[slot];
+            double z = diff / Math.max(Math.sqrt(variance[slot]), MIN_STD_DEV);
+
+            if (!breachesLimit && !(warm && Math.abs(z) > zThreshold)) {
+                fold(slot, diff, alpha);
+                deviating[slot] = false;
+                if (alerted[slot] != 0) {
+                    listener.onResolved(asset, ALERT_TYPES[alerted[slot] - 1], at);
+                    alerted[slot] = 0;
+                }
+                return 0;
+            }
+            if (!deviating[slot]) {
+                deviating[slot] = true;
+                deviatingSince[slot] = at;
+            }
+            if (!warm || at - deviatingSince[slot] >= baselineMillis) {
+                fold(slot, diff, alpha);
+            }
+            if (alerted[slot] == 0 && at - deviatingSince[slot] >= sustainMillis) {
+                AlertType type = breachesLimit ? limitType : anomalyType;
+                alerted[slot] = (byte) (type.ordinal() + 1);
+                listener.onAlert(asset, type, value, at);
+                return 1;
+            }
+            return 0;
+        }
+
+        private void fold(int slot, double diff, double alpha) {
+            double increment = alpha * diff;
+            mean[slot] += increment;
+            variance[slot] = (1 - alpha) * (variance[slot] + diff * increment);
+        }
+    }
+}
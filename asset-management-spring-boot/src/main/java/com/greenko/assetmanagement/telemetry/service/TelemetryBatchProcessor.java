@@ -0,0 +1,33 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+
+/**
+ * AssetDataProcessor's validate as a single pass over a TelemetryBatch's
+ * columns, with no allocation, and the fixed limits that
+ * TelemetryAnomalyDetector alerts on.
+ */
+public final class TelemetryBatchProcessor {
+
+    public static final double HIGH_TEMPERATURE_THRESHOLD = 100;
+    public static final double LOW_POWER_THRESHOLD = 10;
+
+    private TelemetryBatchProcessor() {
+    }
+
+    // drops rows with non-finite values, keeping order; returns how many were dropped
+    public static int validate(TelemetryBatch batch) {
+        int size = batch.size();
+        int kept = 0;
+        for (int row = 0; row < size; row++) {
+            if (Double.isFinite(batch.power(row)) && Double.isFinite(batch.temperature(row))) {
+                if (row != kept) {
+                    batch.moveRow(row, kept);
+                }
+                kept++;
+            }
+        }
+        batch.truncate(kept);
+        return size - kept;
+    }
+}
@@ -0,0 +1,114 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.log.TelemetryLog;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.repository.TelemetryCheckpointRepository;
+import com.greenko.assetmanagement.telemetry.repository.TelemetryRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Moves durable records from the telemetry log into telemetry_reading and the
+ * rollups. Each batch is inserted in the same transaction that advances the
+ * checkpoint, together with its rollup deltas, so every record reaches the
+ * table and the rollups exactly once, including the backlog replayed after a
+ * restart. Segments behind the checkpoint are deleted.
+ */
+@Component
+public class TelemetryLogCompactor {
+
+    private static final Logger log = LoggerFactory.getLogger(TelemetryLogCompactor.class);
+
+    private final TelemetryLog telemetryLog;
+    private final TelemetryRepository telemetryRepo;
+    private final TelemetryCheckpointRepository checkpointRepo;
+    private final TelemetryRollupService rollupService;
+    private final AssetIdDictionary assetIds;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration idleDelay;
+
+    private volatile boolean stopped;
+    private Thread worker;
+
+    public TelemetryLogCompactor(TelemetryLog telemetryLog,
+                                 TelemetryRepository telemetryRepo,
+                                 TelemetryCheckpointRepository checkpointRepo,
+                                 TelemetryRollupService rollupService,
+                                 AssetIdDictionary assetIds,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${assets.telemetry.log.compact-idle-delay:200ms}") Duration idleDelay) {
+        this.telemetryLog = telemetryLog;
+        this.telemetryRepo = telemetryRepo;
+        this.checkpointRepo = checkpointRepo;
+        this.rollupService = rollupService;
+        this.assetIds = assetIds;
+        this.transactionTemplate = transactionTemplate;
+        this.idleDelay = idleDelay;
+    }
+
+    // a thread of its own, so a backlog never holds up the shared scheduler
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = Thread.ofPlatform().name("telemetry-log-compactor").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopped = true;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join();
+        }
+    }
+
+    private void run() {
+        TelemetryBatch batch = new TelemetryBatch(TelemetryService.BATCH_SIZE);
+        long next = checkpointRepo.nextSequence();
+        // the log and the database no longer match (one was replaced); continue from what the log holds
+        if (next < telemetryLog.firstSequence() || next > telemetryLog.durableSequence()) {
+            log.warn("Telemetry checkpoint {} is outside the log [{}, {}), starting from {}", next,
+                    telemetryLog.firstSequence(), telemetryLog.durableSequence(), telemetryLog.firstSequence());
+            next = telemetryLog.firstSequence();
+        }
+        if (next < telemetryLog.durableSequence()) {
+            log.info("Replaying {} telemetry log records", telemetryLog.durableSequence() - next);
+        }
+
+        while (!stopped) {
+            try {
+                batch.clear();
+                int read = telemetryLog.read(next, batch, assetIds);
+                if (read == 0) {
+                    Thread.sleep(idleDelay);
+                    continue;
+                }
+                long advanced = next + read;
+                transactionTemplate.executeWithoutResult(status -> {
+                    telemetryRepo.insertBatch(batch, assetIds);
+                    checkpointRepo.advanceTo(advanced);
+                    rollupService.merge(batch);
+                });
+                next = advanced;
+                telemetryLog.truncateBefore(next);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // the checkpoint did not move; the same records are retried
+                log.error("Telemetry log compaction failed at sequence {}", next, e);
+                try {
+                    Thread.sleep(idleDelay.multipliedBy(10));
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
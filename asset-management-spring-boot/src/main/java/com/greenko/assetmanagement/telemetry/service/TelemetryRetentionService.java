@@ -0,0 +1,98 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.model.RollupResolution;
+import com.greenko.assetmanagement.telemetry.repository.TelemetryRepository;
+import com.greenko.assetmanagement.telemetry.repository.TelemetryRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps telemetry_reading within assets.telemetry.retention. On MySQL the
+ * table has one partition per UTC day: upcoming days are split off the
+ * catch-all partition ahead of time, and expired days are dropped whole
+ * instead of deleted row by row. Other databases fall back to a delete.
+ * Minute and hour rollups have retentions of their own; day rollups are kept.
+ */
+@Service
+public class TelemetryRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TelemetryRetentionService.class);
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    // days of partitions created in advance, so a missed run never sends rows to p_future
+    private static final int DAYS_AHEAD = 7;
+
+    private final TelemetryRepository telemetryRepo;
+    private final TelemetryRollupRepository rollupRepo;
+    private final Duration retention;
+    private final Duration minuteRollupRetention;
+    private final Duration hourRollupRetention;
+    private final boolean partitioned;
+
+    public TelemetryRetentionService(TelemetryRepository telemetryRepo,
+                                     TelemetryRollupRepository rollupRepo,
+                                     DataSource dataSource,
+                                     @Value("${assets.telemetry.retention:90d}") Duration retention,
+                                     @Value("${assets.telemetry.rollup.minute-retention:30d}") Duration minuteRollupRetention,
+                                     @Value("${assets.telemetry.rollup.hour-retention:730d}") Duration hourRollupRetention) throws MetaDataAccessException {
+        this.telemetryRepo = telemetryRepo;
+        this.rollupRepo = rollupRepo;
+        this.retention = retention;
+        this.minuteRollupRetention = minuteRollupRetention;
+        this.hourRollupRetention = hourRollupRetention;
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.partitioned = "MySQL".equals(JdbcUtils.commonDatabaseName(product));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${assets.telemetry.retention-cron:0 30 0 * * *}")
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        rollupRepo.deleteOlderThan(RollupResolution.MINUTE, now - minuteRollupRetention.toMillis());
+        rollupRepo.deleteOlderThan(RollupResolution.HOUR, now - hourRollupRetention.toMillis());
+
+        long cutoff = now - retention.toMillis();
+        if (!partitioned) {
+            telemetryRepo.deleteOlderThan(cutoff);
+            return;
+        }
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Set<String> existing = new HashSet<>(telemetryRepo.findPartitionNames());
+        for (int day = 0; day <= DAYS_AHEAD; day++) {
+            LocalDate date = today.plusDays(day);
+            String name = PARTITION_NAME.format(date);
+            if (!existing.contains(name)) {
+                telemetryRepo.addPartition(name, startOf(date.plusDays(1)));
+                log.info("Added telemetry partition {}", name);
+            }
+        }
+        for (String name : existing) {
+            if (!name.equals("p_future") && startOf(LocalDate.parse(name, PARTITION_NAME).plusDays(1)) <= cutoff) {
+                telemetryRepo.dropPartition(name);
+                log.info("Dropped telemetry partition {}", name);
+            }
+        }
+    }
+
+    private static long startOf(LocalDate date) {
+        return date.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,70 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.dto.TelemetrySeries;
+import com.greenko.assetmanagement.telemetry.model.RollupAggregate;
+import com.greenko.assetmanagement.telemetry.model.RollupKey;
+import com.greenko.assetmanagement.telemetry.model.RollupResolution;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.repository.TelemetryRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maintains the 1m / 1h / 1d rollup tables. Each batch is pre-aggregated in
+ * memory and merged into the tables in the caller's transaction, the one that
+ * moves the batch into telemetry_reading and advances the log checkpoint, so
+ * rollups count every reading exactly once and nothing is lost on a crash.
+ */
+@Service
+public class TelemetryRollupService {
+
+    private final TelemetryRollupRepository rollupRepo;
+    private final AssetIdDictionary assetIds;
+
+    public TelemetryRollupService(TelemetryRollupRepository rollupRepo, AssetIdDictionary assetIds) {
+        this.rollupRepo = rollupRepo;
+        this.assetIds = assetIds;
+    }
+
+    // a busy asset costs one upsert per resolution per batch rather than one per reading
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void merge(TelemetryBatch batch) {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            Map<RollupKey, RollupAggregate> buckets = new HashMap<>();
+            for (int row = 0; row < batch.size(); row++) {
+                RollupKey key = new RollupKey(resolution, batch.assetIndex(row), resolution.bucketOf(batch.recordedAt(row)));
+                buckets.computeIfAbsent(key, k -> new RollupAggregate()).add(batch.power(row), batch.temperature(row));
+            }
+            if (!buckets.isEmpty()) {
+                rollupRepo.merge(resolution, new ArrayList<>(buckets.entrySet()), assetIds);
+            }
+        }
+    }
+
+    // the finest resolution that covers [from, to) in at most maxPoints buckets, or DAY
+    @Transactional(readOnly = true)
+    public TelemetrySeries getSeries(String assetId, long from, long to, int maxPoints) {
+        if (to <= from) {
+            throw new IllegalArgumentException("Range end must be after its start");
+        }
+        RollupResolution resolution = RollupResolution.DAY;
+        for (RollupResolution candidate : RollupResolution.values()) {
+            if ((to - from) / candidate.bucketMillis() <= maxPoints) {
+                resolution = candidate;
+                break;
+            }
+        }
+        return getSeries(assetId, from, to, resolution);
+    }
+
+    @Transactional(readOnly = true)
+    public TelemetrySeries getSeries(String assetId, long from, long to, RollupResolution resolution) {
+        return new TelemetrySeries(assetId, resolution,
+                rollupRepo.findSeries(resolution, assetId, resolution.bucketOf(from), to));
+    }
+}
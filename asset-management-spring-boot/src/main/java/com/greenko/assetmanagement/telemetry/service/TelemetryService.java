@@ -0,0 +1,146 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.codec.TelemetryBinaryReader;
+import com.greenko.assetmanagement.telemetry.dto.TelemetryIngestResponse;
+import com.greenko.assetmanagement.telemetry.dto.TelemetryReadingDto;
+import com.greenko.assetmanagement.telemetry.log.TelemetryLog;
+import com.greenko.assetmanagement.telemetry.model.AlertType;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * validate / persist / alert from AssetDataProcessor, applied a
+ * TelemetryBatch at a time, with alerting done by TelemetryAnomalyDetector. Invalid readings are counted and skipped rather
+ * than failing the whole request, as are readings for assets beyond the
+ * dictionary's limit. "Persist" is an append to the telemetry
+ * log: a request returns once its readings are durable there, and
+ * TelemetryLogCompactor moves them into the database afterwards. The
+ * detector sees each batch as it is appended, but the alerts and resolutions
+ * it raises are held until the request's readings are durable, so no
+ * notification goes out for a reading a crash could still lose.
+ */
+@Service
+public class TelemetryService {
+
+    // one JDBC batch per flush, as in the asset import
+    public static final int BATCH_SIZE = 500;
+
+    private final TelemetryLog telemetryLog;
+    private final AssetIdDictionary assetIds;
+    private final TelemetryAnomalyDetector anomalyDetector;
+    private final AlertDispatcher alertDispatcher;
+
+    public TelemetryService(TelemetryLog telemetryLog, AssetIdDictionary assetIds,
+                            TelemetryAnomalyDetector anomalyDetector, AlertDispatcher alertDispatcher) {
+        this.telemetryLog = telemetryLog;
+        this.assetIds = assetIds;
+        this.anomalyDetector = anomalyDetector;
+        this.alertDispatcher = alertDispatcher;
+    }
+
+    public TelemetryIngestResponse ingest(Iterator<TelemetryReadingDto> readingDtos) throws InterruptedException {
+        long receivedAt = System.currentTimeMillis();
+        TelemetryBatch batch = new TelemetryBatch(BATCH_SIZE);
+        IngestTotals totals = new IngestTotals();
+
+        while (readingDtos.hasNext()) {
+            TelemetryReadingDto dto = readingDtos.next();
+            int asset = isComplete(dto) ? assetIds.tryIndexOf(dto.assetId()) : AssetIdDictionary.FULL;
+            if (asset == AssetIdDictionary.FULL) {
+                totals.rejected++;
+                continue;
+            }
+            batch.add(asset, dto.type(), dto.power(), dto.temperature(),
+                    dto.recordedAt() == null ? receivedAt : dto.recordedAt());
+            if (batch.isFull()) {
+                process(batch, totals);
+            }
+        }
+        process(batch, totals);
+        // one wait per request; concurrent requests share the fsyncs
+        telemetryLog.awaitDurable(totals.lastSequence);
+        totals.held.release(alertDispatcher);
+        return totals.toResponse();
+    }
+
+    // the frame is verified up front, then decoded straight into the batch columns with no per-reading objects
+    public TelemetryIngestResponse ingestBinary(ByteBuffer frame) throws InterruptedException {
+        TelemetryBinaryReader reader = new TelemetryBinaryReader(frame, assetIds);
+        TelemetryBatch batch = new TelemetryBatch(BATCH_SIZE);
+        IngestTotals totals = new IngestTotals();
+        while (reader.readInto(batch) > 0) {
+            process(batch, totals);
+        }
+        totals.rejected += reader.skipped();
+        telemetryLog.awaitDurable(totals.lastSequence);
+        totals.held.release(alertDispatcher);
+        return totals.toResponse();
+    }
+
+    private void process(TelemetryBatch batch, IngestTotals totals) {
+        totals.rejected += TelemetryBatchProcessor.validate(batch);
+        if (!batch.isEmpty()) {
+            totals.lastSequence = telemetryLog.append(batch, assetIds);
+            // only sustained deviations alert; a single spike past a limit no longer does
+            totals.alerts += anomalyDetector.observe(batch, totals.held);
+            totals.accepted += batch.size();
+        }
+        batch.clear();
+    }
+
+    // range checks happen on the batch; this only rejects what cannot be put into one
+    private static boolean isComplete(TelemetryReadingDto dto) {
+        return dto.assetId() != null && !dto.assetId().isBlank() && TelemetryLog.fitsAssetId(dto.assetId())
+                && dto.type() != null
+                && dto.power() != null
+                && dto.temperature() != null;
+    }
+
+    private static final class IngestTotals {
+        int accepted;
+        int rejected;
+        int alerts;
+        long lastSequence;
+        final HeldAlerts held = new HeldAlerts();
+
+        TelemetryIngestResponse toResponse() {
+            return new TelemetryIngestResponse(accepted, rejected, alerts);
+        }
+    }
+
+    // replayed in the order the detector raised them; if the durability wait is interrupted the
+    // request fails and they are never sent
+    private static final class HeldAlerts implements TelemetryAlertListener {
+
+        private record Held(int assetIndex, AlertType type, double value, long recordedAt, boolean resolved) {
+        }
+
+        private final List<Held> held = new ArrayList<>();
+
+        @Override
+        public void onAlert(int assetIndex, AlertType type, double value, long recordedAt) {
+            held.add(new Held(assetIndex, type, value, recordedAt, false));
+        }
+
+        @Override
+        public void onResolved(int assetIndex, AlertType type, long recordedAt) {
+            held.add(new Held(assetIndex, type, 0, recordedAt, true));
+        }
+
+        void release(TelemetryAlertListener listener) {
+            for (Held alert : held) {
+                if (alert.resolved()) {
+                    listener.onResolved(alert.assetIndex(), alert.type(), alert.recordedAt());
+                } else {
+                    listener.onAlert(alert.assetIndex(), alert.type(), alert.value(), alert.recordedAt());
+                }
+            }
+            held.clear();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.greenko.assetmanagement.util;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+
+/**
+ * Asset age relative to a cached "today". The date is resolved once and only
+ * re-resolved after local midnight, so per-row age computation costs a
+ * {@code currentTimeMillis()} compare instead of a {@code LocalDate.now()}.
+ */
+public final class AssetAge {
+
+    public static final String NOT_AVAILABLE = "Not Available";
+
+    private static volatile Today today = Today.resolve();
+
+    private AssetAge() {
+    }
+
+    public static LocalDate today() {
+        Today current = today;
+        if (System.currentTimeMillis() >= current.nextMidnightMillis()) {
+            current = Today.resolve();
+            today = current;
+        }
+        return current.date();
+    }
+
+    public static String of(LocalDate installedDate) {
+        if (installedDate == null) {
+            return NOT_AVAILABLE;
+        }
+        LocalDate now = today();
+        if (installedDate.isAfter(now)) {
+            return NOT_AVAILABLE;
+        }
+        Period age = Period.between(installedDate, now);
+        return age.getYears() + " years " + age.getMonths() + " months";
+    }
+
+    // latest installedDate for an asset that is at least this many whole years old
+    public static LocalDate installedOnOrBefore(int minAgeYears) {
+        return today().minusYears(minAgeYears);
+    }
+
+    // earliest installedDate for an asset that is at most this many whole years old
+    public static LocalDate installedAfter(int maxAgeYears) {
+        return today().minusYears(maxAgeYears + 1L);
+    }
+
+    private record Today(LocalDate date, long nextMidnightMillis) {
+
+        static Today resolve() {
+            ZoneId zone = ZoneId.systemDefault();
+            LocalDate date = LocalDate.now(zone);
+            return new Today(date, date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -1,8 +1,38 @@
 package com.greenko.assetmanagement.util;
 
-public class AssetEntityDtoUtil {
+import com.greenko.assetmanagement.dto.AssetRequestDto;
+import com.greenko.assetmanagement.dto.AssetResponseDto;
+import com.greenko.assetmanagement.model.Asset;
+
+import java.util.UUID;
 
+/**
+ * The one place assets are converted between entity and DTO. List reads never
+ * go through here: AssetRepository constructs AssetResponseDto in the query.
+ */
+public class AssetEntityDtoUtil {
 
+    public static Asset toEntity(AssetRequestDto assetDto) {
+        return new Asset(
+                UUID.randomUUID().toString(),
+                assetDto.assetName(),
+                assetDto.status(),
+                assetDto.health(),
+                assetDto.installedDate(),
+                assetDto.location()
+        );
+    }
 
+    public static AssetResponseDto toResponse(Asset asset) {
+        return new AssetResponseDto(
+                asset.getAssetId(),
+                asset.getAssetName(),
+                asset.getStatus(),
+                asset.getHealth(),
+                asset.getInstalledDate(),
+                asset.getLocation(),
+                asset.getVersion()
+        );
+    }
 
 }
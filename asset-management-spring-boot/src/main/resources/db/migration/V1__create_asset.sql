@@ -0,0 +1,20 @@
+create table asset (
+    asset_id       varchar(255) not null,
+    asset_name     varchar(255) not null,
+    asset_status   varchar(20),
+    health         varchar(20),
+    installed_date date,
+    location       varchar(100),
+    primary key (asset_id)
+);
+
+-- findByAssetName
+create index idx_asset_name on asset (asset_name);
+-- findByStatus, findByStatusAndAssetName (leading column serves status-only lookups)
+create index idx_asset_status_name on asset (asset_status, asset_name);
+-- findByHealth
+create index idx_asset_health on asset (health);
+-- findByYear / installed date range searches
+create index idx_asset_installed_date on asset (installed_date);
+-- search by location
+create index idx_asset_location on asset (location);
@@ -0,0 +1,2 @@
+-- optimistic-locking version; also the per-asset ETag
+alter table asset add column version bigint default 0 not null;
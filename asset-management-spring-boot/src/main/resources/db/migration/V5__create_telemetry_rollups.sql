@@ -0,0 +1,40 @@
+-- per asset and bucket (bucket_start is epoch millis, UTC aligned); avg = sum / sample_count.
+-- Rows are merged additively, so a bucket can be written any number of times.
+create table telemetry_rollup_1m (
+    asset_id        varchar(64) not null,
+    bucket_start    bigint      not null,
+    sample_count    bigint      not null,
+    power_min       double      not null,
+    power_max       double      not null,
+    power_sum       double      not null,
+    temperature_min double      not null,
+    temperature_max double      not null,
+    temperature_sum double      not null,
+    primary key (asset_id, bucket_start)
+);
+
+create table telemetry_rollup_1h (
+    asset_id        varchar(64) not null,
+    bucket_start    bigint      not null,
+    sample_count    bigint      not null,
+    power_min       double      not null,
+    power_max       double      not null,
+    power_sum       double      not null,
+    temperature_min double      not null,
+    temperature_max double      not null,
+    temperature_sum double      not null,
+    primary key (asset_id, bucket_start)
+);
+
+create table telemetry_rollup_1d (
+    asset_id        varchar(64) not null,
+    bucket_start    bigint      not null,
+    sample_count    bigint      not null,
+    power_min       double      not null,
+    power_max       double      not null,
+    power_sum       double      not null,
+    temperature_min double      not null,
+    temperature_max double      not null,
+    temperature_sum double      not null,
+    primary key (asset_id, bucket_start)
+);
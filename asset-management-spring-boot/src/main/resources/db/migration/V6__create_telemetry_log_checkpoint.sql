@@ -0,0 +1,8 @@
+-- next telemetry log sequence to write to telemetry_reading; advanced in the same transaction as the rows
+create table telemetry_log_checkpoint (
+    id            int    not null,
+    next_sequence bigint not null,
+    primary key (id)
+);
+
+insert into telemetry_log_checkpoint (id, next_sequence) values (1, 0);
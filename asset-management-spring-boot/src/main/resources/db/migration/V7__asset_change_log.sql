@@ -0,0 +1,32 @@
+-- delta sync in commit order: each committing transaction numbers its changes from
+-- asset_change_sequence and holds that row's lock until it commits, so change_seq
+-- follows commit order and a reader can never see a gap fill in behind it
+create table asset_change (
+    change_seq  bigint       not null,
+    asset_id    varchar(255) not null,
+    change_type varchar(10)  not null,
+    changed_at  bigint       not null,
+    primary key (change_seq)
+);
+
+create index idx_asset_change_changed_at on asset_change (changed_at);
+
+create table asset_change_sequence (
+    id         int    not null,
+    last_seq   bigint not null,
+    -- highest change_seq removed by the retention purge; older tokens need a full resync
+    purged_seq bigint not null,
+    primary key (id)
+);
+
+insert into asset_change_sequence (id, last_seq, purged_seq) values (1, 0, 0);
+
+-- changes of a transaction too large to hold in memory, written as it goes and
+-- numbered into asset_change at commit; uncommitted, so no other transaction sees them
+create table asset_change_pending (
+    txn_id      varchar(36)  not null,
+    ordinal     int          not null,
+    asset_id    varchar(255) not null,
+    change_type varchar(10)  not null,
+    primary key (txn_id, ordinal)
+);
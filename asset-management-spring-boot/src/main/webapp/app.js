@@ -1,10 +1,50 @@
 const assetForm = document.getElementById("assetForm");
 const assetList = document.getElementById("assetList");
 
+const API = "http://localhost:8000/api/v1/assets";
+// safety net only; pushed events keep the list current
+const SYNC_INTERVAL_MS = 60000;
+
+// assetId -> rendered element, so changes touch only the affected rows
+const assetElements = new Map();
+let changeToken = null;
+let lastEventId = null;
+
 window.onload = function() {
     loadAssets();
+    subscribeToChanges();
+    setInterval(syncAssets, SYNC_INTERVAL_MS);
 };
 
+// server-sent events; ids are consecutive, so a gap means events were dropped or missed while reconnecting
+function subscribeToChanges() {
+    const source = new EventSource(`${API}/stream`);
+    source.addEventListener("asset", message => {
+        const id = Number(message.lastEventId);
+        const gap = lastEventId !== null && id !== lastEventId + 1;
+        lastEventId = id;
+        if (gap) {
+            syncAssets();
+        } else {
+            applyEvent(JSON.parse(message.data));
+        }
+    });
+}
+
+function applyEvent(event) {
+    switch (event.type) {
+        case "DELETED":
+            removeAsset(event.assetId);
+            break;
+        case "CREATED":
+        case "UPDATED":
+            fetchAsset(event.assetId);
+            break;
+        default:
+            syncAssets();
+    }
+}
+
 assetForm.addEventListener("submit", function (event) {
     event.preventDefault(); // stop page reload
     addAsset();
@@ -19,48 +59,118 @@ function addAsset() {
         location: document.getElementById("location").value
     };
 
-    fetch("http://localhost:8000/api/v1/assets", {
+    fetch(API, {
         method: "POST",
         headers: {
             "Content-Type": "application/json"
         },
         body: JSON.stringify(asset)
     })
-    .then(() => {
+    .then(response => response.json())
+    .then(saved => {
         assetForm.reset();
-        loadAssets();
+        renderAsset(saved);
     });
 }
 
 function renderAssets(assets) {
     assetList.innerHTML = "";
+    assetElements.clear();
 
-    assets.forEach(asset => {
-        const div = document.createElement("div");
-        div.innerHTML = `
-            <strong>${asset.assetName}</strong>
-            (${asset.status}, ${asset.health})
-            <br/>
-            Installed: ${asset.installedDate}
-            <br/>
-            Location: ${asset.location}
-            <button onclick="deleteAsset('${asset.assetId}')">Delete</button>
-            <hr/>
-        `;
+    assets.forEach(asset => renderAsset(asset));
+}
+
+// inserts the row, or replaces it in place if it is already shown
+function renderAsset(asset) {
+    const div = document.createElement("div");
+    div.innerHTML = `
+        <strong>${asset.assetName}</strong>
+        (${asset.status}, ${asset.health})
+        <br/>
+        Installed: ${asset.installedDate}
+        <br/>
+        Location: ${asset.location}
+        <button onclick="deleteAsset('${asset.assetId}')">Delete</button>
+        <hr/>
+    `;
+
+    const existing = assetElements.get(asset.assetId);
+    if (existing) {
+        existing.replaceWith(div);
+    } else {
         assetList.appendChild(div);
-    });
+    }
+    assetElements.set(asset.assetId, div);
+}
+
+function removeAsset(assetId) {
+    const existing = assetElements.get(assetId);
+    if (existing) {
+        existing.remove();
+        assetElements.delete(assetId);
+    }
 }
 
 function deleteAsset(assetId) {
-    fetch(`http://localhost:8000/api/v1/assets/${assetId}`, {
+    fetch(`${API}/${assetId}`, {
         method: "DELETE"
     })
-    .then(() => loadAssets());
+    .then(() => removeAsset(assetId));
 }
 
+// full load; the change token is taken first so nothing committed during the load is missed
 function loadAssets() {
-    fetch("http://localhost:8000/api/v1/assets")
+    fetch(`${API}/changes`)
         .then(response => response.json())
-        .then(data => renderAssets(data))
+        .then(changes => {
+            changeToken = changes.nextToken;
+            return fetchAssetPages(null, []);
+        })
+        .then(assets => renderAssets(assets))
         .catch(error => console.error("Error:", error));
-}
\ No newline at end of file
+}
+
+// applies only what changed since the last token
+function syncAssets() {
+    if (changeToken === null) {
+        return;
+    }
+
+    fetch(`${API}/changes?since=${encodeURIComponent(changeToken)}`)
+        .then(response => response.json())
+        .then(changes => {
+            if (changes.fullResync) {
+                loadAssets();
+                return;
+            }
+            changes.deleted.forEach(assetId => removeAsset(assetId));
+            [...changes.inserted, ...changes.updated].forEach(assetId => fetchAsset(assetId));
+            changeToken = changes.nextToken;
+            // changes come back a page at a time
+            if (changes.hasMore) {
+                syncAssets();
+            }
+        })
+        .catch(error => console.error("Error:", error));
+}
+
+function fetchAsset(assetId) {
+    return fetch(`${API}/${assetId}`, { cache: "no-cache" })
+        .then(response => response.ok ? response.json() : null)
+        .then(asset => asset && renderAsset(asset));
+}
+
+// follows the keyset cursor until the last page
+function fetchAssetPages(after, assets) {
+    const url = after
+        ? `${API}?after=${encodeURIComponent(after)}`
+        : API;
+
+    // revalidate with If-None-Match; an unchanged list comes back as 304 from the browser cache
+    return fetch(url, { cache: "no-cache" })
+        .then(response => response.json())
+        .then(page => {
+            assets.push(...page.items);
+            return page.nextCursor ? fetchAssetPages(page.nextCursor, assets) : assets;
+        });
+}
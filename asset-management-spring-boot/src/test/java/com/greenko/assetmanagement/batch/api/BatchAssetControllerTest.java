@@ -0,0 +1,85 @@
+package com.greenko.assetmanagement.batch.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BatchAssetControllerTest {
+
+    @TempDir
+    static Path importDirectory;
+
+    @DynamicPropertySource
+    static void importProperties(DynamicPropertyRegistry registry) {
+        registry.add("assets.import.directory", importDirectory::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Test
+    void testFileOutsideImportDirectoryIsRejected() throws Exception {
+        Path outside = Files.writeString(importDirectory.resolveSibling("outside.csv"), "assetName\n");
+
+        mockMvc.perform(post("/admin/batch/import-assets").param("file", "../outside.csv"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/admin/batch/import-assets").param("file", outside.toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/admin/batch/import-assets").param("file", "missing.csv"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testMalformedLinesAreSkippedAndCompletedJobIsNotRestarted() throws Exception {
+        StringBuilder csv = new StringBuilder("assetName,status,health,installedDate,location\n");
+        for (int i = 0; i < 20; i++) {
+            csv.append("Turbine ").append(i).append(",ACTIVE,GOOD,2020-01-01,Hyderabad\n");
+        }
+        csv.append("Turbine X,BROKEN,GOOD,2020-01-01,Hyderabad\n");
+        csv.append("Turbine Y,ACTIVE,GOOD,not-a-date,Hyderabad\n");
+        csv.append("Turbine Z,ACTIVE\n");
+        Files.writeString(importDirectory.resolve("assets.csv"), csv);
+
+        String location = mockMvc.perform(post("/admin/batch/import-assets").param("file", "assets.csv"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+        long executionId = Long.parseLong(location.substring(location.lastIndexOf('/') + 1));
+
+        JobExecution execution = jobRepository.getJobExecution(executionId);
+        for (int i = 0; i < 300 && execution.getEndTime() == null; i++) {
+            Thread.sleep(100);
+            execution = jobRepository.getJobExecution(executionId);
+        }
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.writeCount").value(20))
+                .andExpect(jsonPath("$.skipCount").value(3));
+
+        mockMvc.perform(post("/admin/batch/jobs/{id}/restart", executionId))
+                .andExpect(status().isConflict());
+        assertEquals(1, jobRepository.getJobExecutions(execution.getJobInstance()).size());
+    }
+}
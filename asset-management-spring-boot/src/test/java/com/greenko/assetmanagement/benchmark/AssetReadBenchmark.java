@@ -0,0 +1,75 @@
+package com.greenko.assetmanagement.benchmark;
+
+import com.greenko.assetmanagement.AssetManagementApplication;
+import com.greenko.assetmanagement.dto.AssetRequestDto;
+import com.greenko.assetmanagement.dto.AssetResponseDto;
+import com.greenko.assetmanagement.model.Asset;
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+import com.greenko.assetmanagement.repository.AssetRepository;
+import com.greenko.assetmanagement.service.AssetService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Heap cost of reading 10k assets as managed entities versus as DTO
+ * projections. Compare the gc.alloc.rate.norm column (bytes per 10k rows).
+ * Run main() after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetReadBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private AssetRepository assetRepo;
+
+    @Setup
+    public void setup() {
+        context = SpringApplication.run(AssetManagementApplication.class,
+                "--server.port=0", "--spring.jpa.show-sql=false");
+        assetRepo = context.getBean(AssetRepository.class);
+        context.getBean(AssetService.class).saveAssets(IntStream.range(0, ROWS)
+                .mapToObj(i -> new AssetRequestDto("Turbine " + i, AssetStatus.ACTIVE, AssetHealth.GOOD,
+                        LocalDate.of(2020, 1, 1).plusDays(i % 1000), "Site " + (i % 20)))
+                .iterator());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // what getAllAssets() used to do
+    @Benchmark
+    public List<Asset> entities() {
+        return assetRepo.findAll();
+    }
+
+    @Benchmark
+    public List<AssetResponseDto> projections() {
+        return assetRepo.findFirstPage(Limit.of(ROWS));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(AssetReadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
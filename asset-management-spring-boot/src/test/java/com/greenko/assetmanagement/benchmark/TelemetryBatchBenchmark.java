@@ -0,0 +1,129 @@
+package com.greenko.assetmanagement.benchmark;
+
+import com.greenko.assetmanagement.telemetry.model.AlertType;
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.service.AssetIdDictionary;
+import com.greenko.assetmanagement.telemetry.service.TelemetryAlertListener;
+import com.greenko.assetmanagement.telemetry.service.TelemetryBatchProcessor;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validate + a fixed-limit alert check over 100k readings held as one object
+ * per reading (the AssetData shape) versus columnar TelemetryBatches. Both start from the
+ * same decoded fields, so the difference is materialization plus the scan.
+ * Compare gc.alloc.rate.norm. Run main() after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TelemetryBatchBenchmark {
+
+    private static final int READINGS = 100_000;
+    private static final int ASSETS = 5_000;
+
+    private record Reading(String assetId, AssetType type, double power, double temperature, long recordedAt) {
+    }
+
+    private String[] assetIds;
+    private int[] assetIndexes;
+    private double[] power;
+    private double[] temperature;
+    private long[] recordedAt;
+    private TelemetryBatch batch;
+
+    @Setup
+    public void setup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        AssetIdDictionary dictionary = new AssetIdDictionary(ASSETS);
+        assetIds = new String[READINGS];
+        assetIndexes = new int[READINGS];
+        power = new double[READINGS];
+        temperature = new double[READINGS];
+        recordedAt = new long[READINGS];
+        for (int i = 0; i < READINGS; i++) {
+            assetIds[i] = "TURBINE-" + random.nextInt(ASSETS);
+            assetIndexes[i] = dictionary.indexOf(assetIds[i]);
+            power[i] = random.nextDouble() * 100;
+            temperature[i] = random.nextDouble() * 120;
+            recordedAt[i] = 1_700_000_000_000L + i;
+        }
+        batch = new TelemetryBatch(500);
+    }
+
+    @Benchmark
+    public int objects(Blackhole blackhole) {
+        List<Reading> readings = new ArrayList<>(500);
+        int alerts = 0;
+        for (int i = 0; i < READINGS; i++) {
+            readings.add(new Reading(assetIds[i], AssetType.TURBINE, power[i], temperature[i], recordedAt[i]));
+            if (readings.size() == 500 || i == READINGS - 1) {
+                for (Reading reading : readings) {
+                    if (!Double.isFinite(reading.power()) || !Double.isFinite(reading.temperature())) {
+                        continue;
+                    }
+                    if (reading.temperature() > TelemetryBatchProcessor.HIGH_TEMPERATURE_THRESHOLD) {
+                        blackhole.consume(reading);
+                        alerts++;
+                    }
+                    if (reading.power() < TelemetryBatchProcessor.LOW_POWER_THRESHOLD) {
+                        blackhole.consume(reading);
+                        alerts++;
+                    }
+                }
+                readings = new ArrayList<>(500);
+            }
+        }
+        return alerts;
+    }
+
+    @Benchmark
+    public int columnar(Blackhole blackhole) {
+        TelemetryAlertListener listener = (assetIndex, type, value, at) -> blackhole.consume(assetIndex);
+        int alerts = 0;
+        for (int i = 0; i < READINGS; i++) {
+            batch.add(assetIndexes[i], AssetType.TURBINE, power[i], temperature[i], recordedAt[i]);
+            if (batch.isFull() || i == READINGS - 1) {
+                TelemetryBatchProcessor.validate(batch);
+                alerts += checkLimits(batch, listener);
+                batch.clear();
+            }
+        }
+        return alerts;
+    }
+
+    // the objects loop's check over the batch columns
+    private static int checkLimits(TelemetryBatch batch, TelemetryAlertListener listener) {
+        int raised = 0;
+        for (int row = 0; row < batch.size(); row++) {
+            if (batch.temperature(row) > TelemetryBatchProcessor.HIGH_TEMPERATURE_THRESHOLD) {
+                listener.onAlert(batch.assetIndex(row), AlertType.HIGH_TEMPERATURE, batch.temperature(row), batch.recordedAt(row));
+                raised++;
+            }
+            if (batch.power(row) < TelemetryBatchProcessor.LOW_POWER_THRESHOLD) {
+                listener.onAlert(batch.assetIndex(row), AlertType.LOW_POWER, batch.power(row), batch.recordedAt(row));
+                raised++;
+            }
+        }
+        return raised;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(TelemetryBatchBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
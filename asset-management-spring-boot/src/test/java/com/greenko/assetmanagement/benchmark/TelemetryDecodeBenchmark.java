@@ -0,0 +1,103 @@
+package com.greenko.assetmanagement.benchmark;
+
+import com.greenko.assetmanagement.telemetry.codec.TelemetryBinaryEncoder;
+import com.greenko.assetmanagement.telemetry.codec.TelemetryBinaryReader;
+import com.greenko.assetmanagement.telemetry.dto.TelemetryReadingDto;
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.service.AssetIdDictionary;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes the same 100k readings from a JSON array (the /api/v1/telemetry path)
+ * and from a binary frame (/api/v1/telemetry/binary) into TelemetryBatches.
+ * Setup prints both payload sizes. Compare gc.alloc.rate.norm as well as time.
+ * Run main() after {@code mvn test-compile}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TelemetryDecodeBenchmark {
+
+    private static final int READINGS = 100_000;
+    private static final int ASSETS = 5_000;
+
+    private byte[] json;
+    private byte[] binary;
+    private ObjectReader jsonReader;
+    private AssetIdDictionary dictionary;
+    private TelemetryBatch batch;
+
+    @Setup
+    public void setup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<TelemetryReadingDto> readings = new ArrayList<>(READINGS);
+        for (int i = 0; i < READINGS; i++) {
+            readings.add(new TelemetryReadingDto("TURBINE-" + random.nextInt(ASSETS), AssetType.TURBINE,
+                    random.nextDouble() * 100, random.nextDouble() * 120, 1_700_000_000_000L + i * 10L));
+        }
+        JsonMapper mapper = JsonMapper.builder().build();
+        json = mapper.writeValueAsBytes(readings);
+        binary = TelemetryBinaryEncoder.encode(readings);
+        jsonReader = mapper.readerFor(new TypeReference<List<TelemetryReadingDto>>() {
+        });
+        dictionary = new AssetIdDictionary(ASSETS);
+        batch = new TelemetryBatch(500);
+        System.out.printf("json: %d bytes (%.1f/reading), binary: %d bytes (%.1f/reading)%n",
+                json.length, (double) json.length / READINGS, binary.length, (double) binary.length / READINGS);
+    }
+
+    @Benchmark
+    public int json(Blackhole blackhole) {
+        List<TelemetryReadingDto> readings = jsonReader.readValue(json);
+        int total = 0;
+        for (TelemetryReadingDto reading : readings) {
+            batch.add(dictionary.indexOf(reading.assetId()), reading.type(), reading.power(),
+                    reading.temperature(), reading.recordedAt());
+            if (batch.isFull()) {
+                total += drain(blackhole);
+            }
+        }
+        return total + drain(blackhole);
+    }
+
+    @Benchmark
+    public int binary(Blackhole blackhole) {
+        TelemetryBinaryReader reader = new TelemetryBinaryReader(ByteBuffer.wrap(binary), dictionary);
+        int total = 0;
+        while (reader.readInto(batch) > 0) {
+            total += drain(blackhole);
+        }
+        return total;
+    }
+
+    private int drain(Blackhole blackhole) {
+        int size = batch.size();
+        blackhole.consume(batch);
+        batch.clear();
+        return size;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(TelemetryDecodeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,99 @@
+package com.greenko.assetmanagement.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AssetEventSubscriberTest {
+
+    @Test
+    void testFullQueueDropsOldestEvents() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        Queue<Runnable> drains = new ArrayDeque<>();
+        AssetEventSubscriber subscriber = new AssetEventSubscriber(emitter, 3, drains::add);
+
+        int dropped = 0;
+        for (long sequence = 1; sequence <= 5; sequence++) {
+            dropped += subscriber.offer(sequence, AssetChangeEvent.bulk());
+        }
+        assertEquals(2, dropped);
+        assertEquals(1, drains.size(), "one drain is scheduled at a time");
+
+        drains.poll().run();
+        assertEquals(List.of(3L, 4L, 5L), emitter.ids);
+    }
+
+    @Test
+    void testClosedSubscriberSendsNothing() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        Queue<Runnable> drains = new ArrayDeque<>();
+        AssetEventSubscriber subscriber = new AssetEventSubscriber(emitter, 3, drains::add);
+
+        subscriber.offer(1, AssetChangeEvent.bulk());
+        subscriber.close();
+        drains.poll().run();
+        assertTrue(emitter.ids.isEmpty());
+    }
+
+    @Test
+    void testConcurrentPublishersDeliverInSequenceOrder() throws Exception {
+        int publishers = 8;
+        int eventsEach = 500;
+        AssetEventBroadcaster broadcaster = new AssetEventBroadcaster(publishers * eventsEach, Duration.ofMinutes(1),
+                new SimpleMeterRegistry());
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter);
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(publishers)) {
+            for (int i = 0; i < publishers; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int j = 0; j < eventsEach; j++) {
+                        broadcaster.onAssetChange(AssetChangeEvent.bulk());
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (emitter.ids.size() < publishers * eventsEach && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        broadcaster.shutdown();
+        assertEquals(LongStream.rangeClosed(1, publishers * eventsEach).boxed().toList(), new ArrayList<>(emitter.ids));
+    }
+
+    // records the SSE ids instead of writing to a response
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<Long> ids = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String head = builder.build().iterator().next().getData().toString();
+            ids.add(Long.parseLong(head.substring("id:".length(), head.indexOf('\n'))));
+        }
+    }
+}
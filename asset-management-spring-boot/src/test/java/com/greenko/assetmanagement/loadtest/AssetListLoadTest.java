@@ -0,0 +1,124 @@
+package com.greenko.assetmanagement.loadtest;
+
+import com.greenko.assetmanagement.dto.AssetRequestDto;
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+import com.greenko.assetmanagement.repository.AssetRepository;
+import com.greenko.assetmanagement.service.AssetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives GET /api/v1/assets with more concurrent clients than Tomcat has
+ * platform worker threads and prints throughput and latency percentiles.
+ * Subclasses pick the threading mode and nothing else; both run against the
+ * same Hikari pool, which is printed with the results so runs at different
+ * pool sizes are comparable. Run with {@code mvn -Pload-test test}, adding
+ * {@code -Dspring.datasource.hikari.maximum-pool-size=N} to try another size.
+ */
+abstract class AssetListLoadTest {
+
+    private static final int SEED_ASSETS = 1_000;
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int WARMUP_REQUESTS_PER_CLIENT = 5;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepo;
+
+    @Autowired
+    private Environment environment;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    abstract String mode();
+
+    @Test
+    void testAssetListThroughput() throws Exception {
+        seedAssets();
+        URI uri = URI.create("http://localhost:" + environment.getProperty("local.server.port") + "/api/v1/assets");
+
+        runClients(uri, WARMUP_REQUESTS_PER_CLIENT);
+
+        long started = System.nanoTime();
+        long[] latencies = runClients(uri, REQUESTS_PER_CLIENT);
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        System.out.printf("[%s, pool=%s] %d requests, %d clients: %.0f req/s, p50=%.1fms p99=%.1fms max=%.1fms%n",
+                mode(),
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size"),
+                latencies.length,
+                CLIENTS,
+                latencies.length / (elapsed / 1e9),
+                percentile(latencies, 0.50),
+                percentile(latencies, 0.99),
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    private void seedAssets() {
+        long missing = SEED_ASSETS - assetRepo.count();
+        if (missing > 0) {
+            assetService.saveAssets(IntStream.range(0, (int) missing)
+                    .mapToObj(i -> new AssetRequestDto("Turbine " + i, AssetStatus.ACTIVE, AssetHealth.GOOD,
+                            LocalDate.of(2020, 1, 1).plusDays(i % 1000), "Site " + (i % 20)))
+                    .iterator());
+        }
+    }
+
+    // every client issues its requests back to back; returns all latencies in nanos
+    private long[] runClients(URI uri, int requestsPerClient) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        List<Future<long[]>> results = new ArrayList<>();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < CLIENTS; c++) {
+                results.add(clients.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long start = System.nanoTime();
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[r] = System.nanoTime() - start;
+                        assertEquals(200, response.statusCode());
+                    }
+                    return latencies;
+                }));
+            }
+        }
+
+        long[] all = new long[CLIENTS * requestsPerClient];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] latencies = result.get();
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        return all;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,14 @@
+package com.greenko.assetmanagement.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PlatformThreadAssetListLoadTest extends AssetListLoadTest {
+
+    @Override
+    String mode() {
+        return "platform threads";
+    }
+}
@@ -0,0 +1,16 @@
+package com.greenko.assetmanagement.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@Tag("load")
+@ActiveProfiles("virtual-threads")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VirtualThreadAssetListLoadTest extends AssetListLoadTest {
+
+    @Override
+    String mode() {
+        return "virtual threads";
+    }
+}
@@ -0,0 +1,78 @@
+package com.greenko.assetmanagement.repository;
+
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// calls each AssetRepository query method, captures the SQL Hibernate generated for it
+// and checks the index H2 chooses when that exact statement is EXPLAINed
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.greenko.assetmanagement.repository.CapturingStatementInspector")
+class AssetRepositoryIndexTest {
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearStatements() {
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    void testFindByAssetNameUsesIndex() {
+        assetRepository.findByAssetName("Turbine 1");
+        assertUsesIndex("IDX_ASSET_NAME");
+    }
+
+    @Test
+    void testFindByStatusUsesIndex() {
+        assetRepository.findByStatus(AssetStatus.ACTIVE);
+        assertUsesIndex("IDX_ASSET_STATUS_NAME");
+    }
+
+    @Test
+    void testFindByStatusAndAssetNameUsesIndex() {
+        assetRepository.findByStatusAndAssetName(AssetStatus.ACTIVE, "Turbine 1");
+        assertUsesIndex("IDX_ASSET_STATUS_NAME");
+    }
+
+    @Test
+    void testFindByHealthUsesIndex() {
+        assetRepository.findByHealth(AssetHealth.GOOD);
+        assertUsesIndex("IDX_ASSET_HEALTH");
+    }
+
+    @Test
+    void testFindByYearUsesIndex() {
+        assetRepository.findByYear(2020);
+        assertUsesIndex("IDX_ASSET_INSTALLED_DATE");
+    }
+
+    @Test
+    void testKeysetPageUsesPrimaryKey() {
+        assetRepository.findPageAfter("a", Limit.of(100));
+        assertUsesIndex("PRIMARY_KEY");
+    }
+
+    // H2 plans EXPLAIN without binding parameters, so the captured statement runs as generated
+    private void assertUsesIndex(String indexName) {
+        List<String> statements = CapturingStatementInspector.statements();
+        assertEquals(1, statements.size(), () -> "expected one statement, got " + statements);
+        String plan = jdbcTemplate.queryForObject("explain " + statements.getFirst(), String.class);
+        assertTrue(plan.toUpperCase().contains(indexName), () -> "expected " + indexName + " in plan:\n" + plan);
+    }
+
+}
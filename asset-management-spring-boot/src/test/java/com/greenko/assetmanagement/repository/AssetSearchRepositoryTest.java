@@ -0,0 +1,68 @@
+package com.greenko.assetmanagement.repository;
+
+import com.greenko.assetmanagement.dto.AssetResponseDto;
+import com.greenko.assetmanagement.dto.AssetSearchCriteria;
+import com.greenko.assetmanagement.dto.AssetSort;
+import com.greenko.assetmanagement.model.Asset;
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// pages through the age orders one asset at a time, so every step goes through the keyset cursor
+@SpringBootTest
+class AssetSearchRepositoryTest {
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    private String location;
+
+    @BeforeEach
+    void saveAssets() {
+        location = UUID.randomUUID().toString();
+        assetRepository.saveAll(List.of(
+                asset("a", LocalDate.of(2018, 5, 1)),
+                asset("b", null),
+                asset("c", LocalDate.of(2021, 3, 1)),
+                asset("d", LocalDate.of(2018, 5, 1)),
+                asset("e", null)));
+    }
+
+    @Test
+    void testAgeListsUndatedAssetsLast() {
+        assertEquals(List.of("c", "d", "a", "e", "b"), pageThrough(AssetSort.AGE));
+    }
+
+    @Test
+    void testAgeDescListsUndatedAssetsLast() {
+        assertEquals(List.of("a", "d", "c", "b", "e"), pageThrough(AssetSort.AGE_DESC));
+    }
+
+    private List<String> pageThrough(AssetSort sort) {
+        var criteria = new AssetSearchCriteria(null, null, null, null, location, null, null, null, null);
+        List<String> names = new ArrayList<>();
+        String after = null;
+        List<AssetResponseDto> page;
+        while (!(page = assetRepository.search(criteria, sort, after, Limit.of(1))).isEmpty()) {
+            names.add(page.getFirst().assetName());
+            after = AssetSearchRepository.cursorOf(page.getFirst(), sort);
+        }
+        return names;
+    }
+
+    // names give the expected order; ids follow it so ties on installedDate break the same way
+    private Asset asset(String name, LocalDate installedDate) {
+        return new Asset(location + "-" + name, name, AssetStatus.ACTIVE, AssetHealth.GOOD, installedDate, location);
+    }
+}
@@ -0,0 +1,130 @@
+package com.greenko.assetmanagement.service;
+
+import com.greenko.assetmanagement.dto.AssetChanges;
+import com.greenko.assetmanagement.dto.AssetRequestDto;
+import com.greenko.assetmanagement.model.Asset;
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class AssetChangeServiceTest {
+
+    @Autowired
+    private AssetChangeService changeService;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // the slow transaction writes first but commits last; a client that synced in between
+    // must still receive its asset on the next call
+    @Test
+    void testLateCommitIsNotSkipped() throws Exception {
+        String token = changeService.getChanges(null).nextToken();
+        String slowId = UUID.randomUUID().toString();
+        String fastId = UUID.randomUUID().toString();
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> slow = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            assetService.saveAsset(asset(slowId));
+            written.countDown();
+            await(release);
+        }));
+        written.await();
+        assetService.saveAsset(asset(fastId));
+
+        AssetChanges first = changeService.getChanges(token);
+        assertEquals(List.of(fastId), first.inserted());
+
+        release.countDown();
+        slow.join();
+
+        AssetChanges second = changeService.getChanges(first.nextToken());
+        assertEquals(List.of(slowId), second.inserted());
+    }
+
+    @Test
+    void testChangesCollapseToNetEffect() {
+        String token = changeService.getChanges(null).nextToken();
+        String updatedId = UUID.randomUUID().toString();
+        String deletedId = UUID.randomUUID().toString();
+        assetService.saveAsset(asset(updatedId));
+        assetService.saveAsset(asset(deletedId));
+        String afterCreate = changeService.getChanges(token).nextToken();
+
+        assetService.updateStatus(updatedId, 0, AssetStatus.MAINTENANCE);
+        assetService.updateStatus(updatedId, 1, AssetStatus.ACTIVE);
+        assetService.updateStatus(deletedId, 0, AssetStatus.INACTIVE);
+        assetService.deleteAsset(deletedId);
+
+        AssetChanges sinceCreate = changeService.getChanges(afterCreate);
+        assertEquals(List.of(), sinceCreate.inserted());
+        assertEquals(List.of(updatedId), sinceCreate.updated());
+        assertEquals(List.of(deletedId), sinceCreate.deleted());
+
+        AssetChanges sinceStart = changeService.getChanges(token);
+        assertEquals(List.of(updatedId), sinceStart.inserted());
+        assertEquals(List.of(deletedId), sinceStart.deleted());
+    }
+
+    @Test
+    void testLargeBulkSaveIsPaged() {
+        String token = changeService.getChanges(null).nextToken();
+        int count = AssetChangeService.MAX_CHANGES + 10;
+        assetService.saveAssets(IntStream.range(0, count)
+                .mapToObj(i -> new AssetRequestDto("Turbine " + i, AssetStatus.ACTIVE, AssetHealth.GOOD,
+                        LocalDate.of(2020, 1, 1), "Hyderabad"))
+                .iterator());
+
+        AssetChanges first = changeService.getChanges(token);
+        assertTrue(first.hasMore());
+        assertEquals(AssetChangeService.MAX_CHANGES, first.inserted().size());
+
+        AssetChanges second = changeService.getChanges(first.nextToken());
+        assertFalse(second.hasMore());
+        assertEquals(10, second.inserted().size());
+        // more than BULK_FLUSH_SIZE changes were staged, and all of them were moved at commit
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from asset_change_pending", Integer.class));
+    }
+
+    @Test
+    void testUnknownTokenForcesFullResync() {
+        long future = Long.parseLong(changeService.getChanges(null).nextToken()) + 1_000_000;
+        assertTrue(changeService.getChanges(Long.toString(future)).fullResync());
+    }
+
+    private static Asset asset(String id) {
+        return new Asset(id, "Turbine", AssetStatus.ACTIVE, AssetHealth.GOOD, LocalDate.of(2020, 1, 1), "Hyderabad");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
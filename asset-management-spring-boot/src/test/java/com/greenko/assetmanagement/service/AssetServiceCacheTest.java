@@ -0,0 +1,61 @@
+package com.greenko.assetmanagement.service;
+
+import com.greenko.assetmanagement.dto.AssetRequestDto;
+import com.greenko.assetmanagement.exception.AssetNotFoundException;
+import com.greenko.assetmanagement.model.Asset;
+import com.greenko.assetmanagement.model.AssetHealth;
+import com.greenko.assetmanagement.model.AssetStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class AssetServiceCacheTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // a read on another thread between the update and its commit sees, and caches, the old row;
+    // the eviction has to come after the commit to drop it
+    @Test
+    void testReadDuringUpdateDoesNotLeaveStaleEntry() {
+        String id = UUID.randomUUID().toString();
+        assetService.saveAsset(new Asset(id, "Turbine 1", AssetStatus.ACTIVE, AssetHealth.GOOD,
+                LocalDate.of(2020, 1, 1), "Hyderabad"));
+        assertEquals(0L, assetService.getAsset(id).version());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assetService.updateAsset(id, 0, new AssetRequestDto("Turbine 1", AssetStatus.MAINTENANCE,
+                    AssetHealth.GOOD, LocalDate.of(2020, 1, 1), "Hyderabad"));
+            assertEquals(0L, CompletableFuture.supplyAsync(() -> assetService.getAsset(id).version()).join());
+        });
+
+        assertEquals(1L, assetService.getAsset(id).version());
+        assertEquals(AssetStatus.MAINTENANCE, assetService.getAsset(id).status());
+    }
+
+    @Test
+    void testReadDuringDeleteDoesNotResurrectAsset() {
+        String id = UUID.randomUUID().toString();
+        assetService.saveAsset(new Asset(id, "Turbine 2", AssetStatus.ACTIVE, AssetHealth.GOOD,
+                LocalDate.of(2020, 1, 1), "Hyderabad"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assetService.deleteAsset(id);
+            CompletableFuture.runAsync(() -> assetService.getAsset(id)).join();
+        });
+
+        assertThrows(AssetNotFoundException.class, () -> assetService.getAsset(id));
+    }
+}
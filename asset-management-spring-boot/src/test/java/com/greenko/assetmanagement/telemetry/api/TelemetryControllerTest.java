@@ -0,0 +1,53 @@
+package com.greenko.assetmanagement.telemetry.api;
+
+import com.greenko.assetmanagement.telemetry.codec.TelemetryBinaryEncoder;
+import com.greenko.assetmanagement.telemetry.codec.TelemetryBinaryFormat;
+import com.greenko.assetmanagement.telemetry.dto.TelemetryReadingDto;
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "assets.telemetry.binary.max-frame-size=1KB")
+@AutoConfigureMockMvc
+class TelemetryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testFrameWithinLimitIsAccepted() throws Exception {
+        byte[] frame = frameOf(10);
+
+        mockMvc.perform(post("/api/v1/telemetry/binary").contentType(TelemetryBinaryFormat.MEDIA_TYPE).content(frame))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(10));
+    }
+
+    @Test
+    void testFrameOverLimitIsRejected() throws Exception {
+        byte[] frame = frameOf(200);
+        assertTrue(frame.length > 1024);
+
+        mockMvc.perform(post("/api/v1/telemetry/binary").contentType(TelemetryBinaryFormat.MEDIA_TYPE).content(frame))
+                .andExpect(status().isContentTooLarge());
+    }
+
+    private static byte[] frameOf(int readings) {
+        List<TelemetryReadingDto> dtos = new ArrayList<>();
+        for (int i = 0; i < readings; i++) {
+            dtos.add(new TelemetryReadingDto("TURBINE-" + i, AssetType.TURBINE, 50.0, 40.0, System.currentTimeMillis()));
+        }
+        return TelemetryBinaryEncoder.encode(dtos);
+    }
+}
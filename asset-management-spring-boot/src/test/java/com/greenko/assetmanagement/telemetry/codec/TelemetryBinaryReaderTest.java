@@ -0,0 +1,75 @@
+package com.greenko.assetmanagement.telemetry.codec;
+
+import com.greenko.assetmanagement.telemetry.dto.TelemetryReadingDto;
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.service.AssetIdDictionary;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TelemetryBinaryReaderTest {
+
+    private final AssetIdDictionary assetIds = new AssetIdDictionary(100_000);
+
+    @Test
+    void testReadingsRoundTrip() {
+        // enough distinct assets to need a second block; timestamps step backwards now and then
+        List<TelemetryReadingDto> readings = new ArrayList<>();
+        for (int i = 0; i < TelemetryBinaryFormat.MAX_ASSETS_PER_BLOCK + 100; i++) {
+            AssetType type = i % 3 == 0 ? AssetType.SOLAR_PANEL : AssetType.TURBINE;
+            readings.add(new TelemetryReadingDto("ASSET-" + i, type, i * 0.5, 20.25,
+                    1_700_000_000_000L + i * 1_000L - (i % 7) * 10));
+        }
+
+        TelemetryBinaryReader reader = new TelemetryBinaryReader(
+                ByteBuffer.wrap(TelemetryBinaryEncoder.encode(readings)), assetIds);
+        TelemetryBatch batch = new TelemetryBatch(500);
+        int read = 0;
+        int added;
+        while ((added = reader.readInto(batch)) > 0) {
+            for (int row = 0; row < added; row++) {
+                TelemetryReadingDto expected = readings.get(read + row);
+                assertEquals(expected.assetId(), assetIds.idOf(batch.assetIndex(row)));
+                assertEquals(expected.type(), batch.type(row));
+                assertEquals((float) (double) expected.power(), batch.power(row));
+                assertEquals(expected.temperature(), batch.temperature(row));
+                assertEquals(expected.recordedAt(), batch.recordedAt(row));
+            }
+            read += added;
+            batch.clear();
+        }
+        assertEquals(readings.size(), read);
+    }
+
+    @Test
+    void testTruncatedFrameIsRejected() {
+        byte[] frame = TelemetryBinaryEncoder.encode(List.of(
+                new TelemetryReadingDto("TURBINE-1", AssetType.TURBINE, 50.0, 40.0, 1_000L)));
+
+        ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(frame, frame.length - 1));
+        assertThrows(IllegalArgumentException.class, () -> new TelemetryBinaryReader(truncated, assetIds));
+    }
+
+    @Test
+    void testReadingsBeyondDictionaryLimitAreSkipped() {
+        byte[] frame = TelemetryBinaryEncoder.encode(List.of(
+                new TelemetryReadingDto("TURBINE-1", AssetType.TURBINE, 50.0, 40.0, 1_000L),
+                new TelemetryReadingDto("TURBINE-2", AssetType.TURBINE, 51.0, 41.0, 2_000L),
+                new TelemetryReadingDto("TURBINE-1", AssetType.TURBINE, 52.0, 42.0, 3_000L)));
+
+        AssetIdDictionary oneAsset = new AssetIdDictionary(1);
+        TelemetryBinaryReader reader = new TelemetryBinaryReader(ByteBuffer.wrap(frame), oneAsset);
+        TelemetryBatch batch = new TelemetryBatch(10);
+        assertEquals(2, reader.readInto(batch));
+        assertEquals(1, reader.skipped());
+        assertEquals(52.0f, batch.power(1));
+        assertThrows(IllegalArgumentException.class, () -> oneAsset.indexOf("TURBINE-2"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.greenko.assetmanagement.telemetry.log;
+
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import com.greenko.assetmanagement.telemetry.service.AssetIdDictionary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// small segments (10 records) so rolling and truncation are exercised
+class TelemetryLogTest {
+
+    private static final int SEGMENT_BYTES = 10 * TelemetryLogRecord.SIZE;
+
+    @TempDir
+    Path directory;
+
+    private final AssetIdDictionary assetIds = new AssetIdDictionary(10_000);
+
+    @Test
+    void testRecordsSurviveReopen() throws Exception {
+        try (TelemetryLog log = new TelemetryLog(directory, SEGMENT_BYTES, 0)) {
+            log.awaitDurable(log.append(batchOf(25), assetIds));
+        }
+
+        try (TelemetryLog log = new TelemetryLog(directory, SEGMENT_BYTES, 0)) {
+            assertEquals(25, log.durableSequence());
+            TelemetryBatch read = new TelemetryBatch(100);
+            assertEquals(25, log.read(0, read, assetIds));
+            assertEquals("TURBINE-24", assetIds.idOf(read.assetIndex(24)));
+            assertEquals(24.0, read.power(24));
+            assertEquals(1_000 + 24, read.recordedAt(24));
+        }
+    }
+
+    @Test
+    void testTornTailIsDiscarded() throws Exception {
+        try (TelemetryLog log = new TelemetryLog(directory, SEGMENT_BYTES, 0)) {
+            log.awaitDurable(log.append(batchOf(5), assetIds));
+        }
+        // corrupt the fourth record, as a write interrupted by a crash would
+        try (FileChannel channel = FileChannel.open(directory.resolve(TelemetryLogSegment.fileName(0)),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), 3L * TelemetryLogRecord.SIZE + 20);
+        }
+
+        try (TelemetryLog log = new TelemetryLog(directory, SEGMENT_BYTES, 0)) {
+            assertEquals(3, log.durableSequence());
+            // the next append reuses the torn slot
+            assertEquals(4, log.append(batchOf(1), assetIds));
+        }
+    }
+
+    @Test
+    void testTruncateKeepsUnreadSegments() throws Exception {
+        try (TelemetryLog log = new TelemetryLog(directory, SEGMENT_BYTES, 100)) {
+            log.awaitDurable(log.append(batchOf(25), assetIds));
+            log.truncateBefore(115);
+            assertEquals(110, log.firstSequence());
+            assertFalse(Files.exists(directory.resolve(TelemetryLogSegment.fileName(100))));
+            assertEquals(10, log.read(115, new TelemetryBatch(100), assetIds));
+        }
+    }
+
+    private TelemetryBatch batchOf(int readings) {
+        TelemetryBatch batch = new TelemetryBatch(readings);
+        for (int i = 0; i < readings; i++) {
+            batch.add(assetIds.indexOf("TURBINE-" + i), AssetType.TURBINE, i, 50 + i, 1_000 + i);
+        }
+        return batch;
+    }
+}
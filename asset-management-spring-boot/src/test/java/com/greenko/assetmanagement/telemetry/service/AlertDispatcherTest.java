@@ -0,0 +1,122 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.dto.AlertNotification;
+import com.greenko.assetmanagement.telemetry.model.AlertStatus;
+import com.greenko.assetmanagement.telemetry.model.AlertType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AlertDispatcherTest {
+
+    private final AssetIdDictionary assetIds = new AssetIdDictionary(100);
+    private final RecordingNotifier notifier = new RecordingNotifier();
+
+    @Test
+    void testRepeatedRaisesCoalesceIntoOneIncident() {
+        AlertDispatcher dispatcher = dispatcher(Duration.ofMinutes(15), 500, 100);
+        int asset = assetIds.indexOf("TURBINE-1");
+        for (int i = 0; i < 3; i++) {
+            dispatcher.onAlert(asset, AlertType.HIGH_TEMPERATURE, 101 + i, i);
+        }
+
+        dispatcher.flush();
+        assertEquals(1, notifier.batches.size());
+        AlertNotification notification = notifier.batches.getFirst().getFirst();
+        assertEquals(AlertStatus.OPEN, notification.status());
+        assertEquals("TURBINE-1", notification.assetId());
+        assertEquals(1, dispatcher.openAlerts().size());
+        assertEquals(3, dispatcher.openAlerts().getFirst().occurrences());
+        assertEquals(103, dispatcher.openAlerts().getFirst().lastValue());
+    }
+
+    @Test
+    void testRaiseWithinSuppressionWindowContinuesIncident() {
+        AlertDispatcher dispatcher = dispatcher(Duration.ofMinutes(15), 500, 100);
+        int asset = assetIds.indexOf("TURBINE-1");
+        dispatcher.onAlert(asset, AlertType.LOW_POWER, 5, 0);
+        dispatcher.onResolved(asset, AlertType.LOW_POWER, 1);
+        dispatcher.flush();
+        dispatcher.onAlert(asset, AlertType.LOW_POWER, 4, 2);
+        dispatcher.flush();
+
+        assertEquals(List.of(AlertStatus.OPEN), statuses());
+        assertEquals(2, dispatcher.openAlerts().getFirst().occurrences());
+    }
+
+    @Test
+    void testResolutionIsSentOnceSuppressionWindowHasPassed() {
+        AlertDispatcher dispatcher = dispatcher(Duration.ZERO, 500, 100);
+        int asset = assetIds.indexOf("TURBINE-1");
+        dispatcher.onAlert(asset, AlertType.LOW_POWER, 5, 0);
+        dispatcher.onResolved(asset, AlertType.LOW_POWER, 1);
+        dispatcher.flush();
+        dispatcher.onAlert(asset, AlertType.LOW_POWER, 4, 2);
+        dispatcher.flush();
+
+        assertEquals(List.of(AlertStatus.OPEN, AlertStatus.RESOLVED, AlertStatus.OPEN), statuses());
+        assertEquals(1, dispatcher.openAlerts().getFirst().occurrences());
+    }
+
+    @Test
+    void testFlushSendsAtMostMaxPerFlush() {
+        AlertDispatcher dispatcher = dispatcher(Duration.ofMinutes(15), 2, 100);
+        raiseDistinct(dispatcher, 5);
+
+        for (int i = 0; i < 4; i++) {
+            dispatcher.flush();
+        }
+        assertEquals(List.of(2, 2, 1), notifier.batches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void testNotificationsBeyondMaxPendingAreSummarized() {
+        AlertDispatcher dispatcher = dispatcher(Duration.ofMinutes(15), 500, 3);
+        raiseDistinct(dispatcher, 5);
+
+        dispatcher.flush();
+        assertEquals(3, notifier.batches.getFirst().size());
+        assertEquals(List.of(2), notifier.dropped);
+        assertEquals(5, dispatcher.openAlerts().size());
+
+        dispatcher.flush();
+        assertEquals(1, notifier.batches.size());
+        assertEquals(List.of(2), notifier.dropped);
+    }
+
+    private AlertDispatcher dispatcher(Duration suppressionWindow, int maxPerFlush, int maxPending) {
+        return new AlertDispatcher(assetIds, List.of(notifier), new SimpleMeterRegistry(), suppressionWindow,
+                maxPerFlush, maxPending);
+    }
+
+    private void raiseDistinct(AlertDispatcher dispatcher, int assets) {
+        for (int i = 0; i < assets; i++) {
+            dispatcher.onAlert(assetIds.indexOf("TURBINE-" + i), AlertType.HIGH_TEMPERATURE, 101, i);
+        }
+    }
+
+    private List<AlertStatus> statuses() {
+        return notifier.batches.stream().flatMap(List::stream).map(AlertNotification::status).toList();
+    }
+
+    private static class RecordingNotifier implements AlertNotifier {
+
+        final List<List<AlertNotification>> batches = new ArrayList<>();
+        final List<Integer> dropped = new ArrayList<>();
+
+        @Override
+        public void send(List<AlertNotification> notifications) {
+            batches.add(List.copyOf(notifications));
+        }
+
+        @Override
+        public void sendDropped(int count) {
+            dropped.add(count);
+        }
+    }
+}
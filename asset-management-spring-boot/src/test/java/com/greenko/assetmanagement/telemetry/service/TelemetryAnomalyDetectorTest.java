@@ -0,0 +1,78 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.model.AlertType;
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TelemetryAnomalyDetectorTest {
+
+    private static final int ASSET = 7;
+    private static final double TEMPERATURE = 40;
+    private static final double POWER = 50;
+
+    // defaults from application.yaml: z 3, 10m baseline, 60s sustain, 30 warm-up samples
+    private final TelemetryAnomalyDetector detector = new TelemetryAnomalyDetector(3, Duration.ofMinutes(10),
+            Duration.ofSeconds(60), 30);
+    private final List<AlertType> raised = new ArrayList<>();
+    private final List<AlertType> resolved = new ArrayList<>();
+    private final TelemetryAlertListener listener = new TelemetryAlertListener() {
+        @Override
+        public void onAlert(int assetIndex, AlertType type, double value, long recordedAt) {
+            raised.add(type);
+        }
+
+        @Override
+        public void onResolved(int assetIndex, AlertType type, long recordedAt) {
+            resolved.add(type);
+        }
+    };
+
+    private long second;
+
+    @Test
+    void testSustainedShiftAlerts() {
+        // one reading a second alternating +/-1 around the level: a standard deviation of 1
+        feed(600, TEMPERATURE);
+        for (double sigmas : new double[] {5, 10, 20}) {
+            raised.clear();
+            feed(120, TEMPERATURE + sigmas);
+            assertEquals(List.of(AlertType.TEMPERATURE_ANOMALY), raised, sigmas + " sigma step");
+
+            feed(1, TEMPERATURE);
+            assertEquals(AlertType.TEMPERATURE_ANOMALY, resolved.getLast());
+        }
+    }
+
+    @Test
+    void testShiftOutlastingBaselineWindowBecomesNormal() {
+        feed(600, TEMPERATURE);
+        feed(3_600, TEMPERATURE + 10);
+        assertEquals(List.of(AlertType.TEMPERATURE_ANOMALY), raised);
+        assertEquals(List.of(AlertType.TEMPERATURE_ANOMALY), resolved);
+    }
+
+    @Test
+    void testTransientSpikeDoesNotAlert() {
+        feed(600, TEMPERATURE);
+        feed(5, TEMPERATURE + 20);
+        feed(600, TEMPERATURE);
+        assertTrue(raised.isEmpty(), () -> "raised " + raised);
+    }
+
+    private void feed(int seconds, double temperature) {
+        TelemetryBatch batch = new TelemetryBatch(seconds);
+        for (int i = 0; i < seconds; i++, second++) {
+            double noise = second % 2 == 0 ? 1 : -1;
+            batch.add(ASSET, AssetType.TURBINE, POWER + noise, temperature + noise, second * 1_000);
+        }
+        detector.observe(batch, listener);
+    }
+}
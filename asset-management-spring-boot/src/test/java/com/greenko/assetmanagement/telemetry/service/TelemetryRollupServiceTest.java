@@ -0,0 +1,61 @@
+package com.greenko.assetmanagement.telemetry.service;
+
+import com.greenko.assetmanagement.telemetry.dto.RollupPoint;
+import com.greenko.assetmanagement.telemetry.dto.TelemetryReadingDto;
+import com.greenko.assetmanagement.telemetry.model.AssetType;
+import com.greenko.assetmanagement.telemetry.model.RollupResolution;
+import com.greenko.assetmanagement.telemetry.model.TelemetryBatch;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class TelemetryRollupServiceTest {
+
+    // the previous full hour, so retention leaves the buckets alone
+    private static final long HOUR_START = RollupResolution.HOUR.bucketOf(System.currentTimeMillis()) - 3_600_000;
+
+    @Autowired
+    private TelemetryService telemetryService;
+
+    @Autowired
+    private TelemetryRollupService rollupService;
+
+    // the compactor moves the readings and their rollups in one transaction per batch
+    @Test
+    void testIngestedReadingsAreRolledUpOnce() throws Exception {
+        String assetId = "TURBINE-" + UUID.randomUUID();
+        List<TelemetryReadingDto> readings = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            readings.add(new TelemetryReadingDto(assetId, AssetType.TURBINE, 40.0 + i % 20, 30.0, HOUR_START + i * 1_000L));
+        }
+        assertEquals(1_200, telemetryService.ingest(readings.iterator()).accepted());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<RollupPoint> hours;
+        do {
+            Thread.sleep(50);
+            hours = rollupService.getSeries(assetId, HOUR_START, HOUR_START + 3_600_000, RollupResolution.HOUR).points();
+        } while ((hours.isEmpty() || hours.getFirst().samples() < 1_200) && System.currentTimeMillis() < deadline);
+
+        assertEquals(1, hours.size());
+        assertEquals(1_200, hours.getFirst().samples());
+        assertEquals(40.0, hours.getFirst().powerMin());
+        assertEquals(59.0, hours.getFirst().powerMax());
+        assertEquals(20, rollupService.getSeries(assetId, HOUR_START, HOUR_START + 3_600_000, RollupResolution.MINUTE)
+                .points().stream().mapToLong(RollupPoint::samples).filter(samples -> samples == 60).count());
+    }
+
+    @Test
+    void testMergeOutsideTransactionIsRejected() {
+        assertThrows(IllegalTransactionStateException.class, () -> rollupService.merge(new TelemetryBatch(1)));
+    }
+}
@@ -0,0 +1,83 @@
+package assetmanagement;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * validate -> analyze -> persist -> alert, each stage with its own workers
+ * and batch size, joined by bounded queues.
+ */
+class AssetDataPipeline {
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final BlockingQueue<AssetData> validateQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final BlockingQueue<AssetData> analyzeQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final BlockingQueue<AssetData> persistQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final BlockingQueue<AssetData> alertQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final List<PipelineStage<AssetData, AssetData>> stages;
+
+    private final long[] lastProcessed;
+    private long lastReportNanos = System.nanoTime();
+
+    AssetDataPipeline(EventSink events) {
+        stages = List.of(
+                PipelineStage.perItem("validate", validateQueue, analyzeQueue, 2, 64,
+                        data -> AssetDataProcessor.validate(data, events) ? List.of(data) : List.of()),
+                // analyze waits on I/O, so it gets many workers and no batching
+                PipelineStage.perItem("analyze", analyzeQueue, persistQueue, 256, 1,
+                        data -> {
+                            AssetDataProcessor.analyze(data);
+                            return List.of(data);
+                        }),
+                // one write per micro-batch instead of one per reading
+                new PipelineStage<>("persist", persistQueue, alertQueue, 2, 100,
+                        batch -> {
+                            AssetDataProcessor.persist(batch, events);
+                            return List.copyOf(batch);
+                        }),
+                PipelineStage.perItem("alert", alertQueue, null, 1, 64,
+                        data -> {
+                            AssetDataProcessor.checkAlerts(data, events);
+                            return List.of();
+                        })
+        );
+        lastProcessed = new long[stages.size()];
+    }
+
+    void start() {
+        stages.forEach(PipelineStage::start);
+    }
+
+    // blocks while the first stage is saturated
+    void submit(AssetData data) throws InterruptedException {
+        validateQueue.put(data);
+    }
+
+    // stages are closed in order, so every reading already submitted goes all the way through
+    void close() throws InterruptedException {
+        for (PipelineStage<AssetData, AssetData> stage : stages) {
+            stage.closeInput();
+            stage.awaitFinished();
+        }
+    }
+
+    // readings/sec per stage since the previous report, and what is waiting in front of it
+    synchronized void report() {
+        long now = System.nanoTime();
+        double seconds = (now - lastReportNanos) / 1e9;
+        lastReportNanos = now;
+
+        StringBuilder line = new StringBuilder("pipeline:");
+        for (int i = 0; i < stages.size(); i++) {
+            PipelineStage<AssetData, AssetData> stage = stages.get(i);
+            long processed = stage.processed();
+            line.append(String.format(" %s %.0f/s queued=%d total=%d failed=%d |", stage.name(),
+                    (processed - lastProcessed[i]) / seconds, stage.queueDepth(), processed, stage.failed()));
+            lastProcessed[i] = processed;
+        }
+        System.out.println(line);
+    }
+}
@@ -1,43 +1,54 @@
 package assetmanagement;
 
+import java.util.List;
+
 class AssetDataProcessor implements Runnable {
 
     private final AssetData data;
+    private final EventSink events;
 
-    AssetDataProcessor(AssetData data) {
+    AssetDataProcessor(AssetData data, EventSink events) {
         this.data = data;
+        this.events = events;
     }
 
     @Override
     public void run() {
-        System.out.println(
-            Thread.currentThread().getName() +
-            " processing " + data.assetId
-        );
-
-        validate();
-        analyze();
-        persist();
-        checkAlerts();
+        events.publish(AssetEvent.of(AssetEventType.PROCESSING, data.assetId, Thread.currentThread().getName()));
+
+        if (validate(data, events)) {
+            analyze(data);
+            persist(List.of(data), events);
+            checkAlerts(data, events);
+        }
     }
 
-    private void validate() {
+    // the steps are also the stages of AssetDataPipeline
+
+    static boolean validate(AssetData data, EventSink events) {
         if (data.temperature > 100) {
-            System.out.println("High temperature detected for " + data.assetId);
+            events.publish(AssetEvent.of(AssetEventType.HIGH_TEMPERATURE, data.assetId, "temperature=" + data.temperature));
         }
+        return Double.isFinite(data.power) && Double.isFinite(data.temperature);
     }
 
-    private void analyze() {
+    static void analyze(AssetData data) {
         try { Thread.sleep(200); } catch (Exception ignored) {}
     }
 
-    private void persist() {
-        System.out.println("Persisted data for " + data.assetId);
+    // all-or-nothing, as PipelineStage requires of a batch handler: every event is built before
+    // the first is published, so a reading that fails here leaves no part of the batch behind
+    static void persist(List<AssetData> batch, EventSink events) {
+        String detail = "batch=" + batch.size();
+        List<AssetEvent> persisted = batch.stream()
+                .map(data -> AssetEvent.of(AssetEventType.PERSISTED, data.assetId, detail))
+                .toList();
+        persisted.forEach(events::publish);
     }
 
-    private void checkAlerts() {
+    static void checkAlerts(AssetData data, EventSink events) {
         if (data.power < 10) {
-            System.out.println("Low power alert for " + data.assetId);
+            events.publish(AssetEvent.of(AssetEventType.LOW_POWER, data.assetId, "power=" + data.power));
         }
     }
-}
\ No newline at end of file
+}
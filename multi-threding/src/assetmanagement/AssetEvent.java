@@ -0,0 +1,19 @@
+package assetmanagement;
+
+import java.time.Instant;
+
+record AssetEvent(AssetEventType type, String assetId, String detail, long timestamp) {
+
+    static AssetEvent of(AssetEventType type, String assetId, String detail) {
+        return new AssetEvent(type, assetId, detail, System.currentTimeMillis());
+    }
+
+    boolean isAlert() {
+        return type == AssetEventType.HIGH_TEMPERATURE || type == AssetEventType.LOW_POWER;
+    }
+
+    @Override
+    public String toString() {
+        return Instant.ofEpochMilli(timestamp) + " " + type + " " + assetId + " " + detail;
+    }
+}
@@ -0,0 +1,8 @@
+package assetmanagement;
+
+enum AssetEventType {
+    PROCESSING,
+    HIGH_TEMPERATURE,
+    PERSISTED,
+    LOW_POWER
+}
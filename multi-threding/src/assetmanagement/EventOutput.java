@@ -0,0 +1,12 @@
+package assetmanagement;
+
+// only ever called from the sink's drainer thread, so implementations need no locking
+interface EventOutput {
+
+    void write(AssetEvent event);
+
+    // called after each drained batch
+    default void flush() {}
+
+    default void close() {}
+}
@@ -0,0 +1,6 @@
+package assetmanagement;
+
+// publish never takes a lock, so callers on virtual threads are not pinned
+interface EventSink {
+    void publish(AssetEvent event);
+}
@@ -0,0 +1,20 @@
+package assetmanagement;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// for checks and demos; readable from any thread while the drainer appends
+class InMemoryEventOutput implements EventOutput {
+
+    private final Queue<AssetEvent> events = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void write(AssetEvent event) {
+        events.add(event);
+    }
+
+    List<AssetEvent> events() {
+        return List.copyOf(events);
+    }
+}
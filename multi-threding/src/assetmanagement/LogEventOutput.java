@@ -0,0 +1,11 @@
+package assetmanagement;
+
+class LogEventOutput implements EventOutput {
+
+    private final System.Logger log = System.getLogger("assetmanagement.events");
+
+    @Override
+    public void write(AssetEvent event) {
+        log.log(event.isAlert() ? System.Logger.Level.WARNING : System.Logger.Level.INFO, event::toString);
+    }
+}
@@ -1,14 +1,26 @@
 package assetmanagement;
 
-import java.util.concurrent.ExecutorService;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class Main {
 
-    static void main() {
+    static void main() throws InterruptedException {
 
-        ExecutorService executor =
-                Executors.newVirtualThreadPerTaskExecutor();
+        RingBufferEventSink events = new RingBufferEventSink(1 << 16, List.of(
+                new LogEventOutput(),
+                new FileEventOutput(Path.of("asset-events.log"))
+        ));
+
+        AssetDataPipeline pipeline = new AssetDataPipeline(events);
+        pipeline.start();
+
+        ScheduledExecutorService reporter =
+                Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(pipeline::report, 1, 1, TimeUnit.SECONDS);
 
         for (int i = 1; i <= 10000; i++) {
 
@@ -19,12 +31,15 @@ public class Main {
                     Math.random() * 120
             );
 
-            Runnable task = new AssetDataProcessor(data);
-            executor.submit(task);
+            // waits here when the pipeline is full
+            pipeline.submit(data);
 
         }
 
-        executor.shutdown();
+        pipeline.close();
+        reporter.shutdown();
+        pipeline.report();
+        events.close();
 
     }
 
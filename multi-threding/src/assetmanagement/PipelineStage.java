@@ -0,0 +1,153 @@
+package assetmanagement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * One stage of AssetDataPipeline: a fixed number of workers take up to
+ * batchSize items from the input queue, run the handler over them and put
+ * the results on the output queue. put() blocks when the next stage's queue
+ * is full, which is how backpressure reaches the producer.
+ *
+ * A stage built with perItem handles every item on its own, so an item that
+ * throws is dropped and counted without repeating the others. A batch
+ * handler must be all-or-nothing: if it throws, the batch is retried one item
+ * at a time, so it must not have had any effect by then. Either way the
+ * worker keeps running, so a bad reading cannot leave the stage without
+ * consumers.
+ */
+class PipelineStage<I, O> {
+
+    private final String name;
+    private final BlockingQueue<I> input;
+    private final BlockingQueue<O> output;
+    private final int workers;
+    private final int batchSize;
+    private final Function<List<I>, List<O>> handler; // null for perItem stages
+    private final Function<I, List<O>> itemHandler;
+
+    private final System.Logger log = System.getLogger("assetmanagement.pipeline");
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final CountDownLatch finished;
+    private volatile boolean inputClosed;
+
+    // output is null for the last stage
+    PipelineStage(String name, BlockingQueue<I> input, BlockingQueue<O> output,
+                  int workers, int batchSize, Function<List<I>, List<O>> handler) {
+        this(name, input, output, workers, batchSize, handler, item -> handler.apply(List.of(item)));
+    }
+
+    static <I, O> PipelineStage<I, O> perItem(String name, BlockingQueue<I> input, BlockingQueue<O> output,
+                                              int workers, int batchSize, Function<I, List<O>> itemHandler) {
+        return new PipelineStage<>(name, input, output, workers, batchSize, null, itemHandler);
+    }
+
+    private PipelineStage(String name, BlockingQueue<I> input, BlockingQueue<O> output, int workers, int batchSize,
+                          Function<List<I>, List<O>> handler, Function<I, List<O>> itemHandler) {
+        this.name = name;
+        this.input = input;
+        this.output = output;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.handler = handler;
+        this.itemHandler = itemHandler;
+        this.finished = new CountDownLatch(workers);
+    }
+
+    void start() {
+        Thread.Builder builder = Thread.ofVirtual().name(name + "-", 0);
+        for (int i = 0; i < workers; i++) {
+            builder.start(this::work);
+        }
+    }
+
+    // no more input will arrive; workers exit once the queue is drained
+    void closeInput() {
+        inputClosed = true;
+    }
+
+    void awaitFinished() throws InterruptedException {
+        finished.await();
+    }
+
+    String name() {
+        return name;
+    }
+
+    long processed() {
+        return processed.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    int queueDepth() {
+        return input.size();
+    }
+
+    private void work() {
+        List<I> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                I first = input.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (inputClosed && input.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                input.drainTo(batch, batchSize - 1);
+
+                List<O> results = handle(batch);
+                if (output != null) {
+                    for (O result : results) {
+                        output.put(result);
+                    }
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private List<O> handle(List<I> batch) {
+        if (handler != null) {
+            try {
+                List<O> results = handler.apply(batch);
+                processed.add(batch.size());
+                return results;
+            } catch (RuntimeException e) {
+                if (batch.size() == 1) {
+                    drop(batch.getFirst(), e);
+                    return List.of();
+                }
+            }
+        }
+        List<O> results = new ArrayList<>();
+        for (I item : batch) {
+            try {
+                results.addAll(itemHandler.apply(item));
+                processed.increment();
+            } catch (RuntimeException e) {
+                drop(item, e);
+            }
+        }
+        return results;
+    }
+
+    private void drop(I item, RuntimeException e) {
+        failed.increment();
+        log.log(System.Logger.Level.ERROR, () -> name + " dropped " + item, e);
+    }
+}
@@ -0,0 +1,127 @@
+package assetmanagement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded multi-producer / single-consumer ring buffer with one drainer
+ * thread writing to the outputs. Producers claim a slot with a CAS on the
+ * tail and publish it through the slot's sequence number, so there is no
+ * monitor to contend on or pin a carrier. When the ring is full a producer
+ * yields until the drainer frees a slot: events are never dropped. A failing
+ * output is reported and skipped for that event, so it cannot stop the
+ * drainer; should the drainer die anyway, publish fails instead of spinning.
+ */
+class RingBufferEventSink implements EventSink, AutoCloseable {
+
+    private static final int DRAIN_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final AssetEvent[] slots;
+    // slot i is writable for position p when sequence == p, readable when sequence == p + 1
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // drainer thread only
+
+    private final System.Logger log = System.getLogger("assetmanagement.events");
+    private final List<EventOutput> outputs;
+    private final Thread drainer;
+    private volatile boolean closed;
+
+    // capacity must be a power of two
+    RingBufferEventSink(int capacity, List<EventOutput> outputs) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AssetEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.outputs = List.copyOf(outputs);
+        this.drainer = Thread.ofPlatform().name("event-sink").daemon().start(this::drain);
+    }
+
+    @Override
+    public void publish(AssetEvent event) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long diff = sequences.getAcquire(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (diff < 0) {
+                // full: the drainer has not released this slot from the previous lap yet
+                if (!drainer.isAlive()) {
+                    throw new IllegalStateException("event sink drainer has stopped");
+                }
+                Thread.yield();
+            }
+            // diff > 0: another producer claimed the slot first, retry with the new tail
+        }
+        slots[index] = event;
+        sequences.setRelease(index, position + 1);
+    }
+
+    // waits for everything published so far to reach the outputs
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        LockSupport.unpark(drainer);
+        drainer.join();
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                int drained = drainBatch();
+                if (drained > 0) {
+                    outputs.forEach(output -> call(output, "flush", EventOutput::flush));
+                } else if (closed && tail.get() == head) {
+                    return;
+                } else {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        } finally {
+            outputs.forEach(output -> call(output, "close", EventOutput::close));
+        }
+    }
+
+    private int drainBatch() {
+        int drained = 0;
+        while (drained < DRAIN_BATCH) {
+            int index = (int) (head & mask);
+            if (sequences.getAcquire(index) != head + 1) {
+                break; // empty, or the producer holding this slot has not finished writing it
+            }
+            AssetEvent event = slots[index];
+            slots[index] = null;
+            sequences.setRelease(index, head + slots.length);
+            head++;
+            drained++;
+            for (EventOutput output : outputs) {
+                call(output, "write", o -> o.write(event));
+            }
+        }
+        return drained;
+    }
+
+    private void call(EventOutput output, String operation, Consumer<EventOutput> action) {
+        try {
+            action.accept(output);
+        } catch (RuntimeException e) {
+            log.log(System.Logger.Level.ERROR, () -> output.getClass().getSimpleName() + " " + operation + " failed", e);
+        }
+    }
+}